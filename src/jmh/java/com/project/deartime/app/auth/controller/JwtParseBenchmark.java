@@ -0,0 +1,76 @@
+package com.project.deartime.app.auth.controller;
+
+import com.project.deartime.app.auth.Service.RevokedTokenStore;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 인증 시 JWT 검증 비용 벤치마크
+ * - 변경 전 방식(요청마다 파서 생성 + 서명 검증), 공유 파서로 서명 검증, Claims 캐시 적중을 비교한다.
+ * - 캐시 적중 경로는 필터와 같이 parseAccessClaims(type/jti/fid 확인 + 폐기 조회)까지 포함해 측정한다.
+ * - 실행: ./gradlew jmh -PjmhIncludes=JwtParseBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "deartime-benchmark-jwt-secret-key-0123456789abcdef";
+
+    private SecretKey secretKey;
+    private JwtParser sharedParser;
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        sharedParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+
+        // 폐기 여부는 메모리에서만 확인하므로 저장소 없이 생성
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 10_000, new RevokedTokenStore(null, null));
+        token = jwtTokenProvider.createAccessToken("1", "user@test.com", jwtTokenProvider.newTokenFamily());
+
+        // 캐시 적재
+        jwtTokenProvider.parseAccessClaims(token);
+    }
+
+    // 변경 전 getClaims / validateToken 의 방식
+    @Benchmark
+    public Claims uncachedNewParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims uncachedSharedParser() {
+        return sharedParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims cachedParseClaims() {
+        return jwtTokenProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims cachedParseAccessClaims() {
+        return jwtTokenProvider.parseAccessClaims(token);
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.deartime.app.gallery;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.ImageProcessingException;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifSubIFDDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 촬영 일시 추출(ImageMetadataUtil) 벤치마크
+ * - metadata-extractor 의 ImageMetadataReader(모든 디렉터리 파싱)와 헤더 세그먼트만 읽는 ImageMetadataUtil 을 비교한다.
+ * - 업로드 경로는 S3 에서 앞부분 128KB 만 받아 오므로, 파일 전체와 헤더 범위 두 가지 입력을 측정한다.
+ * - 할당량 비교가 목적이므로 GC 프로파일러와 함께 실행한다.
+ *   ./gradlew jmh -PjmhIncludes=ImageMetadataBenchmark -PjmhProfilers=gc (gc.alloc.rate.norm 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImageMetadataBenchmark {
+
+    private static final String FILE_NAME = "photo.jpg";
+    private static final int HEADER_RANGE_BYTES = 128 * 1024;
+    private static final LocalDateTime TAKEN_AT = LocalDateTime.of(2024, 3, 9, 9, 0, 0);
+
+    // 휴대폰 원본(12MP) / FHD 스크린샷
+    @Param({"4032x3024", "1920x1080"})
+    private String sourceSize;
+
+    private byte[] file;
+    private byte[] headerRange;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String[] size = sourceSize.split("x");
+        byte[] jpeg = ImageResizeUtil.resizeToJpeg(
+                ImageResizeBenchmark.syntheticImage(Integer.parseInt(size[0]), Integer.parseInt(size[1])),
+                Integer.MAX_VALUE, 0.92f);
+
+        // SOI 바로 뒤에 Exif APP1 삽입 (휴대폰 카메라 원본과 같은 위치)
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jpeg.length + 128);
+        out.write(jpeg, 0, 2);
+        out.writeBytes(exifApp1(TAKEN_AT));
+        out.write(jpeg, 2, jpeg.length - 2);
+
+        file = out.toByteArray();
+        headerRange = Arrays.copyOf(file, Math.min(file.length, HEADER_RANGE_BYTES));
+    }
+
+    @Benchmark
+    public String metadataReaderFile() throws ImageProcessingException, IOException {
+        return readWithMetadataReader(file);
+    }
+
+    @Benchmark
+    public String metadataReaderHeaderRange() throws ImageProcessingException, IOException {
+        return readWithMetadataReader(headerRange);
+    }
+
+    @Benchmark
+    public LocalDateTime headerScanFile() {
+        return ImageMetadataUtil.extractTakenAt(file, FILE_NAME);
+    }
+
+    @Benchmark
+    public LocalDateTime headerScanHeaderRange() {
+        return ImageMetadataUtil.extractTakenAt(headerRange, FILE_NAME);
+    }
+
+    // 변경 전 ImageMetadataUtil 의 방식
+    private static String readWithMetadataReader(byte[] image) throws ImageProcessingException, IOException {
+        Metadata metadata = ImageMetadataReader.readMetadata(new ByteArrayInputStream(image));
+        ExifSubIFDDirectory subIfd = metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
+        return subIfd != null ? subIfd.getString(ExifSubIFDDirectory.TAG_DATETIME_ORIGINAL) : null;
+    }
+
+    /**
+     * IFD0 → Exif SubIFD → DateTimeOriginal 만 담은 APP1 세그먼트
+     */
+    private static byte[] exifApp1(LocalDateTime takenAt) {
+        byte[] date = (String.format("%04d:%02d:%02d %02d:%02d:%02d",
+                takenAt.getYear(), takenAt.getMonthValue(), takenAt.getDayOfMonth(),
+                takenAt.getHour(), takenAt.getMinute(), takenAt.getSecond()) + "\0")
+                .getBytes(StandardCharsets.US_ASCII);
+        int tiffLength = 44 + date.length;
+
+        ByteBuffer segment = ByteBuffer.allocate(4 + 6 + tiffLength);
+        segment.put((byte) 0xFF).put((byte) 0xE1).putShort((short) (2 + 6 + tiffLength));
+        segment.put(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+
+        // TIFF 본문은 little-endian
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        segment.put((byte) 'I').put((byte) 'I').putShort((short) 42).putInt(8);
+        segment.putShort((short) 1);
+        segment.putShort((short) 0x8769).putShort((short) 4).putInt(1).putInt(26);
+        segment.putInt(0);
+        segment.putShort((short) 1);
+        segment.putShort((short) 0x9003).putShort((short) 2).putInt(date.length).putInt(44);
+        segment.putInt(0);
+        segment.put(date);
+        return segment.array();
+    }
+}
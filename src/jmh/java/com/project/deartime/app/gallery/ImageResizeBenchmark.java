@@ -0,0 +1,90 @@
+package com.project.deartime.app.gallery;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사진 파생 이미지 생성(PhotoVariantGenerator) 처리량 벤치마크
+ * - 원본 크기별로 디코딩 / 썸네일 / 중간 크기 / 사진 한 장 전체(디코딩 + 두 가지 리사이즈) 처리량을 측정한다.
+ * - 원본은 JPEG 압축이 잘 되지 않도록 노이즈를 섞은 합성 이미지를 사용한다.
+ * - 실행: ./gradlew jmh (결과는 build/results/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImageResizeBenchmark {
+
+    private static final int THUMBNAIL_SIZE = 320;
+    private static final int MEDIUM_SIZE = 1080;
+    private static final float QUALITY = 0.8f;
+
+    // 휴대폰 원본(12MP) / FHD 스크린샷
+    @Param({"4032x3024", "1920x1080"})
+    private String sourceSize;
+
+    private byte[] sourceJpeg;
+    private BufferedImage source;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String[] size = sourceSize.split("x");
+        BufferedImage image = syntheticImage(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+
+        sourceJpeg = ImageResizeUtil.resizeToJpeg(image, Integer.MAX_VALUE, 0.92f);
+        source = ImageResizeUtil.read(new ByteArrayInputStream(sourceJpeg));
+    }
+
+    @Benchmark
+    public BufferedImage decode() throws IOException {
+        return ImageResizeUtil.read(new ByteArrayInputStream(sourceJpeg));
+    }
+
+    @Benchmark
+    public byte[] thumbnail() throws IOException {
+        return ImageResizeUtil.resizeToJpeg(source, THUMBNAIL_SIZE, QUALITY);
+    }
+
+    @Benchmark
+    public byte[] medium() throws IOException {
+        return ImageResizeUtil.resizeToJpeg(source, MEDIUM_SIZE, QUALITY);
+    }
+
+    /**
+     * 사진 한 장당 작업 스레드가 하는 CPU 작업 전체 (S3 다운로드/업로드 제외)
+     */
+    @Benchmark
+    public void variants(Blackhole blackhole) throws IOException {
+        BufferedImage decoded = ImageResizeUtil.read(new ByteArrayInputStream(sourceJpeg));
+        blackhole.consume(ImageResizeUtil.resizeToJpeg(decoded, THUMBNAIL_SIZE, QUALITY));
+        blackhole.consume(ImageResizeUtil.resizeToJpeg(decoded, MEDIUM_SIZE, QUALITY));
+    }
+
+    static BufferedImage syntheticImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int r = (x * 255 / width + random.nextInt(32)) & 0xFF;
+                int g = (y * 255 / height + random.nextInt(32)) & 0xFF;
+                int b = ((x + y) * 255 / (width + height) + random.nextInt(32)) & 0xFF;
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,87 @@
+package com.project.deartime.app.auth.Service;
+
+import com.project.deartime.app.auth.controller.JwtTokenProvider;
+import com.project.deartime.app.auth.dto.TokenResponse;
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.global.exception.CoreApiException;
+import com.project.deartime.global.exception.ErrorCode;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RevokedTokenStore revokedTokenStore;
+    private final UserRepository userRepository;
+
+    /**
+     * 토큰 재발급 (refresh token rotation)
+     * - 사용한 refresh token 은 폐기하고 같은 token family(fid)로 새 access/refresh token 을 발급한다.
+     * - 같은 refresh token 으로 동시에 요청하면 폐기 기록(jti) 삽입에 성공한 한 요청만 발급받는다.
+     * - 이미 사용된 refresh token 이 다시 오면 탈취로 보고 family 전체를 폐기한다.
+     *   (먼저 재발급받은 쪽의 access/refresh token 도 더 이상 쓸 수 없으므로 정상 사용자도 다시 로그인해야 함)
+     */
+    public TokenResponse refresh(String refreshToken) {
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseRefreshClaims(refreshToken);
+        } catch (ExpiredJwtException e) {
+            throw new CoreApiException(ErrorCode.EXPIRED_TOKEN_EXCEPTION, "refresh token 이 만료되었습니다.");
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new CoreApiException(ErrorCode.INVALID_TOKEN, "유효하지 않은 refresh token 입니다.");
+        }
+
+        Long userId = Long.parseLong(claims.getSubject());
+        String familyId = jwtTokenProvider.getFamilyId(claims);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CoreApiException(ErrorCode.USER_NOT_FOUND));
+
+        if (revokedTokenStore.isFamilyRevoked(familyId)) {
+            throw new CoreApiException(ErrorCode.INVALID_TOKEN, "폐기된 로그인 세션입니다. 다시 로그인해 주세요.");
+        }
+
+        if (!revokedTokenStore.revokeRefreshToken(claims.getId(), userId, jwtTokenProvider.getExpiresAt(claims))) {
+            // 이미 사용된 토큰 재사용 (탈취 가능성), 토큰 값은 로그에 남기지 않음
+            revokedTokenStore.revokeFamily(familyId, userId, jwtTokenProvider.getFamilyExpiresAt());
+            log.warn("[AUTH] 사용/폐기된 refresh token 재사용 시도, 로그인 세션 폐기. userId={}", userId);
+            throw new CoreApiException(ErrorCode.INVALID_TOKEN, "이미 사용되었거나 폐기된 refresh token 입니다.");
+        }
+
+        String accessToken = jwtTokenProvider.createAccessToken(userId.toString(), user.getEmail(), familyId);
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(userId.toString(), familyId);
+
+        return new TokenResponse(accessToken, newRefreshToken);
+    }
+
+    /**
+     * 로그아웃 (access token 과 전달된 refresh token 폐기)
+     */
+    public void logout(Long userId, String accessToken, String refreshToken) {
+        Claims accessClaims = jwtTokenProvider.parseAccessClaims(accessToken);
+        if (accessClaims.getId() != null) {
+            revokedTokenStore.revokeAccessToken(accessClaims.getId(), userId, jwtTokenProvider.getExpiresAt(accessClaims));
+        }
+
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return;
+        }
+
+        try {
+            Claims refreshClaims = jwtTokenProvider.parseRefreshClaims(refreshToken);
+            if (userId.toString().equals(refreshClaims.getSubject())) {
+                revokedTokenStore.revokeRefreshToken(refreshClaims.getId(), userId, jwtTokenProvider.getExpiresAt(refreshClaims));
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 만료되었거나 유효하지 않은 refresh token 은 폐기할 필요 없음
+            log.debug("[AUTH] 로그아웃 refresh token 무시. userId={}", userId);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.project.deartime.app.auth.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.project.deartime.app.auth.domain.TokenType;
+import com.project.deartime.app.auth.repository.RevokedTokenRepository;
+import com.project.deartime.app.domain.RevokedToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기된 토큰 저장소
+ * - access token: 요청마다 확인하므로 메모리(jti -> 만료 시각)에서 조회하고, 각 항목은 토큰 만료 시각에 함께 만료된다.
+ *   다른 노드에서 폐기한 토큰은 sync-interval 마다 DB 에서 읽어 반영한다.
+ * - refresh token: 재발급 시에만 확인하므로 DB 행 삽입 결과(충돌 여부)로 판단한다. (메모리에 보관하지 않음)
+ * - token family: 사용한 refresh token 이 재사용되면 같은 로그인 세션(fid)의 토큰을 모두 폐기한다.
+ *   access token 과 같이 메모리에서 확인하고, 재발급 시에는 다른 노드의 폐기도 바로 반영되도록 DB 에서 확인한다.
+ */
+@Slf4j
+@Component
+public class RevokedTokenStore {
+
+    // 노드 간 시계 차이와 동기화 직전 커밋된 행을 놓치지 않도록 이전 동기화 시각보다 조금 앞부터 조회
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+    private static final LocalDateTime INITIAL_SYNC = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, LocalDateTime> revokedAccessTokens;
+
+    private volatile LocalDateTime lastSyncedAt = INITIAL_SYNC;
+
+    @Value("${auth.revocation.retention:PT1H}")
+    private Duration retention;
+
+    public RevokedTokenStore(RevokedTokenRepository revokedTokenRepository,
+                             TransactionTemplate transactionTemplate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.revokedAccessTokens = Caffeine.newBuilder()
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    /**
+     * 폐기된 access token 또는 token family 여부 (메모리 조회)
+     */
+    public boolean isRevoked(String jti) {
+        return revokedAccessTokens.getIfPresent(jti) != null;
+    }
+
+    /**
+     * access token 폐기 (로그아웃)
+     */
+    public void revokeAccessToken(String jti, Long userId, LocalDateTime expiresAt) {
+        insert(jti, userId, TokenType.ACCESS, expiresAt);
+        revokedAccessTokens.put(jti, expiresAt);
+    }
+
+    /**
+     * refresh token 폐기 (재발급에 사용 또는 로그아웃)
+     * @return 이번 호출로 폐기되었으면 true, 이미 사용/폐기된 토큰이면 false
+     */
+    public boolean revokeRefreshToken(String jti, Long userId, LocalDateTime expiresAt) {
+        return insert(jti, userId, TokenType.REFRESH, expiresAt);
+    }
+
+    /**
+     * token family 폐기 (refresh token 재사용 감지)
+     * @param expiresAt family 에서 지금까지 발급된 토큰이 모두 만료되는 시각
+     */
+    public void revokeFamily(String familyId, Long userId, LocalDateTime expiresAt) {
+        insert(familyId, userId, TokenType.FAMILY, expiresAt);
+        revokedAccessTokens.put(familyId, expiresAt);
+    }
+
+    /**
+     * 폐기된 token family 여부 (재발급 시 DB 조회)
+     */
+    public boolean isFamilyRevoked(String familyId) {
+        return revokedTokenRepository.existsById(familyId);
+    }
+
+    private boolean insert(String jti, Long userId, TokenType tokenType, LocalDateTime expiresAt) {
+        Integer inserted = transactionTemplate.execute(status ->
+                revokedTokenRepository.insertIfAbsent(jti, userId, tokenType.name(), expiresAt, LocalDateTime.now()));
+        return inserted != null && inserted > 0;
+    }
+
+    /**
+     * 다른 노드에서 폐기한 access token / token family 반영 (시작 직후 한 번은 만료되지 않은 전체를 적재)
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval:PT10S}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt == INITIAL_SYNC ? INITIAL_SYNC : lastSyncedAt.minus(SYNC_OVERLAP);
+
+        List<RevokedToken> revokedTokens =
+                revokedTokenRepository.findActiveRevokedSince(List.of(TokenType.ACCESS, TokenType.FAMILY), since, now);
+        revokedTokens.forEach(token -> revokedAccessTokens.put(token.getJti(), token.getExpiresAt()));
+
+        lastSyncedAt = now;
+
+        if (!revokedTokens.isEmpty()) {
+            log.debug("[AUTH] 폐기 토큰 동기화. count={}", revokedTokens.size());
+        }
+    }
+
+    /**
+     * 만료된 토큰의 폐기 기록 정리 (매 시 30분)
+     * - 만료된 토큰은 서명 검증 단계에서 거부되므로 기록이 필요 없다.
+     */
+    @Scheduled(cron = "0 30 * * * *")
+    public void deleteExpired() {
+        Integer deleted = transactionTemplate.execute(status ->
+                revokedTokenRepository.deleteExpiredBefore(LocalDateTime.now().minus(retention)));
+        log.debug("[AUTH] 만료된 폐기 토큰 정리. count={}", deleted);
+    }
+
+    /**
+     * 토큰 만료 시각까지만 보관
+     */
+    private static class UntilTokenExpiry implements Expiry<String, LocalDateTime> {
+
+        @Override
+        public long expireAfterCreate(String jti, LocalDateTime expiresAt, long currentTime) {
+            return Math.max(0L, Duration.between(LocalDateTime.now(), expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String jti, LocalDateTime expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(jti, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String jti, LocalDateTime expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -5,13 +5,19 @@ import com.project.deartime.app.auth.dto.UpdateProfileRequest;
 import com.project.deartime.app.auth.repository.UserRepository;
 import com.project.deartime.app.domain.User;
 import com.project.deartime.app.service.S3Service;
+import com.project.deartime.app.storage.service.S3DeletionQueue;
+import com.project.deartime.app.upload.dto.UploadTarget;
 import com.project.deartime.global.exception.CoreApiException;
 import com.project.deartime.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -19,14 +25,11 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final S3Service s3Service;  // 추가
+    private final S3DeletionQueue s3DeletionQueue;
+    private final UserSnapshotCache userSnapshotCache;
 
     // MultipartFile 파라미터 추가
     public User signUp(String providerId, String email, SignUpRequest request, MultipartFile profileImage) {
-        System.out.println("=== 회원가입 시작 ===");
-        System.out.println("providerId: " + providerId);
-        System.out.println("email: " + email);
-        System.out.println("nickname: " + request.getNickname());
-
         if (userRepository.existsByNickname(request.getNickname())) {
             throw new CoreApiException(ErrorCode.DUPLICATE_NICKNAME);
         }
@@ -35,7 +38,6 @@ public class UserService {
         String profileImageUrl = null;
         if (profileImage != null && !profileImage.isEmpty()) {
             profileImageUrl = s3Service.uploadFile(profileImage, "profiles");
-            System.out.println("업로드된 이미지 URL: " + profileImageUrl);
         }
 
         User user = User.builder()
@@ -48,8 +50,7 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
-        System.out.println("저장된 User ID: " + savedUser.getId());
-        System.out.println("=== 회원가입 완료 ===");
+        log.info("[USER] 회원가입 완료. userId={}", savedUser.getId());
 
         return savedUser;
     }
@@ -62,8 +63,6 @@ public class UserService {
 
     // MultipartFile 파라미터 추가
     public User updateProfile(Long userId, UpdateProfileRequest request, MultipartFile profileImage) {
-        System.out.println("=== 프로필 업데이트 시작 ===");
-
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CoreApiException(ErrorCode.USER_NOT_FOUND));
 
@@ -75,20 +74,25 @@ public class UserService {
 
         // 프로필 이미지 업데이트 처리
         String profileImageUrl = user.getProfileImageUrl();  // 기존 URL 유지
+        String newProfileImageUrl = null;
         if (profileImage != null && !profileImage.isEmpty()) {
-            // 기존 이미지가 있으면 삭제
-            if (user.getProfileImageUrl() != null) {
-                try {
-                    s3Service.deleteFile(user.getProfileImageUrl());
-                    System.out.println("기존 이미지 삭제 완료");
-                } catch (Exception e) {
-                    System.out.println("기존 이미지 삭제 실패: " + e.getMessage());
-                }
+            // 새 이미지 업로드
+            newProfileImageUrl = s3Service.uploadFile(profileImage, UploadTarget.PROFILE.folder(userId));
+        } else if (request.getProfileImageKey() != null && !request.getProfileImageKey().isBlank()) {
+            // 직접 업로드한 이미지 확인 (본인 폴더의 키만 허용, 이미 다른 행이 참조하는 키는 거부)
+            String key = request.getProfileImageKey();
+            if (userRepository.existsByProfileImageUrl(s3Service.getFileUrl(key))) {
+                throw new CoreApiException(ErrorCode.UPLOAD_KEY_ALREADY_USED);
             }
+            newProfileImageUrl = s3Service.confirmUpload(key, UploadTarget.PROFILE.folder(userId));
+        }
 
-            // 새 이미지 업로드
-            profileImageUrl = s3Service.uploadFile(profileImage, "profiles");
-            System.out.println("새 이미지 업로드 완료: " + profileImageUrl);
+        if (newProfileImageUrl != null) {
+            // 기존 이미지가 있으면 삭제 요청 (프로필 변경이 커밋된 뒤 삭제 워커가 처리)
+            if (user.getProfileImageUrl() != null) {
+                s3DeletionQueue.enqueue(List.of(user.getProfileImageUrl()));
+            }
+            profileImageUrl = newProfileImageUrl;
         }
 
         user.updateProfile(
@@ -98,7 +102,10 @@ public class UserService {
                 profileImageUrl
         );
 
-        System.out.println("=== 프로필 업데이트 완료 ===");
+        // 닉네임/프로필 이미지 캐시 무효화
+        userSnapshotCache.invalidate(userId);
+
+        log.debug("[USER] 프로필 수정 완료. userId={}", userId);
 
         return user;
     }
@@ -0,0 +1,86 @@
+package com.project.deartime.app.auth.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.deartime.app.auth.dto.UserSnapshot;
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.global.exception.CoreApiException;
+import com.project.deartime.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * 사용자 요약(UserSnapshot) 캐시
+ * - 요청 안에서는 처음 조회한 값을 요청 속성에 보관해 다시 조회하지 않는다.
+ * - 요청 간에는 expire-after-write 동안 재사용하며, 프로필이 바뀌면 무효화한다.
+ * - 연관관계 저장에는 getReferenceById 프록시를 쓰고, 닉네임/프로필 이미지는 여기서 꺼내 쓴다.
+ */
+@Component
+public class UserSnapshotCache {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = UserSnapshotCache.class.getName() + ".";
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserSnapshot> snapshots;
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             @Value("${user.snapshot-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${user.snapshot-cache.expire-after-write:PT5M}") Duration expireAfterWrite) {
+        this.userRepository = userRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    /**
+     * 사용자 요약 조회 (요청 속성 -> 캐시 -> DB 순)
+     */
+    public UserSnapshot get(Long userId) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + userId;
+
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST) instanceof UserSnapshot snapshot) {
+            return snapshot;
+        }
+
+        UserSnapshot snapshot = snapshots.get(userId, id -> userRepository.findSnapshotById(id).orElse(null));
+        if (snapshot == null) {
+            throw new CoreApiException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다. userId=" + userId);
+        }
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(attributeName, snapshot, RequestAttributes.SCOPE_REQUEST);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 프로필 변경 시 무효화
+     * - 커밋 전에 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 이후에도 한 번 더 무효화한다.
+     */
+    public void invalidate(Long userId) {
+        snapshots.invalidate(userId);
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + userId, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshots.invalidate(userId);
+                }
+            });
+        }
+    }
+}
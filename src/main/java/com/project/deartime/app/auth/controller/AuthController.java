@@ -1,13 +1,22 @@
 package com.project.deartime.app.auth.controller;
 
+import com.project.deartime.app.auth.Service.AuthService;
+import com.project.deartime.app.auth.dto.LogoutRequest;
+import com.project.deartime.app.auth.dto.RefreshTokenRequest;
+import com.project.deartime.app.auth.dto.TokenResponse;
 import com.project.deartime.global.dto.ApiResponseTemplete;
 import com.project.deartime.global.exception.SuccessCode;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -15,8 +24,11 @@ import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/auth")
+@RequiredArgsConstructor
 public class AuthController {
 
+    private final AuthService authService;
+
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String clientId;
 
@@ -29,8 +41,36 @@ public class AuthController {
         response.sendRedirect("/oauth2/authorization/google");
     }
 
+    /**
+     * 토큰 재발급 (사용한 refresh token 은 폐기되고 새 refresh token 발급)
+     * POST /api/auth/refresh
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponseTemplete<TokenResponse>> refresh(
+            @RequestBody @Valid RefreshTokenRequest request,
+            HttpServletResponse response
+    ) {
+        TokenResponse tokens = authService.refresh(request.getRefreshToken());
+
+        response.addHeader("Authorization", "Bearer " + tokens.getAccessToken());
+        response.addHeader("Refresh-Token", tokens.getRefreshToken());
+
+        return ApiResponseTemplete.success(SuccessCode.TOKEN_REFRESH_SUCCESS, tokens);
+    }
+
+    /**
+     * 로그아웃 (현재 access token 과 전달된 refresh token 폐기)
+     * POST /api/auth/logout
+     */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponseTemplete<Void>> logout() {
+    public ResponseEntity<ApiResponseTemplete<Void>> logout(
+            @AuthenticationPrincipal String userId,
+            @RequestHeader("Authorization") String authHeader,
+            @RequestBody(required = false) LogoutRequest request
+    ) {
+        String accessToken = authHeader.replace("Bearer ", "");
+        authService.logout(Long.parseLong(userId), accessToken, request != null ? request.getRefreshToken() : null);
+
         // 인증 정보 제거
         SecurityContextHolder.clearContext();
 
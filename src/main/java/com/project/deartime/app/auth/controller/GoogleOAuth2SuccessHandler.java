@@ -5,6 +5,7 @@ import com.project.deartime.app.domain.User;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.io.PrintWriter;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class GoogleOAuth2SuccessHandler implements AuthenticationSuccessHandler {
@@ -37,12 +39,12 @@ public class GoogleOAuth2SuccessHandler implements AuthenticationSuccessHandler
             // 기존 유저 - 정식 토큰 발급
             User user = optionalUser.get();
 
-            String accessToken = jwtTokenProvider.createAccessToken(user.getId().toString(), user.getEmail());
-            String refreshToken = jwtTokenProvider.createRefreshToken(user.getId().toString());
+            String familyId = jwtTokenProvider.newTokenFamily();
+            String accessToken = jwtTokenProvider.createAccessToken(user.getId().toString(), user.getEmail(), familyId);
+            String refreshToken = jwtTokenProvider.createRefreshToken(user.getId().toString(), familyId);
 
-            System.out.println("=== 로그인 성공 ===");
-            System.out.println("Access Token: " + accessToken);
-            System.out.println("Refresh Token: " + refreshToken);
+            // 토큰 값은 로그에 남기지 않음
+            log.info("[AUTH] 로그인 성공. userId={}", user.getId());
 
             response.setContentType("application/json;charset=UTF-8");
             PrintWriter writer = response.getWriter();
@@ -57,8 +59,7 @@ public class GoogleOAuth2SuccessHandler implements AuthenticationSuccessHandler
             // 신규 유저 - 임시 토큰 발급 (회원가입용)
             String tempToken = jwtTokenProvider.createTempToken(providerId, email);
 
-            System.out.println("=== 신규 유저 - 임시 토큰 발급 ===");
-            System.out.println("Temp Token: " + tempToken);
+            log.info("[AUTH] 신규 유저 임시 토큰 발급");
 
             response.setContentType("application/json;charset=UTF-8");
             PrintWriter writer = response.getWriter();
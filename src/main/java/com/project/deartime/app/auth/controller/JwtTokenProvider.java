@@ -1,6 +1,13 @@
 package com.project.deartime.app.auth.controller;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.project.deartime.app.auth.Service.RevokedTokenStore;
+import com.project.deartime.app.auth.domain.TokenType;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,8 +15,27 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * JWT 발급/검증
+ * - access/refresh token 은 type 클레임(ACCESS/REFRESH), jti, 로그인 세션 단위의 fid(token family)를 갖는다.
+ *   refresh token 재발급 시 fid 는 그대로 이어지고, 사용한 refresh token 이 재사용되면 fid 전체를 폐기한다.
+ * - 요청 인증은 type 이 ACCESS 인 토큰만 허용한다. type/fid 가 없는 이전 형식 토큰(refresh token, 회원가입용 임시 토큰 포함)은
+ *   인증과 재발급 모두 거부되므로, 이전 형식 토큰을 가진 사용자는 한 번 다시 로그인해야 한다.
+ */
 @Component
 public class JwtTokenProvider {
 
@@ -18,8 +44,29 @@ public class JwtTokenProvider {
     private final long ACCESS_TOKEN_EXP = 1000L * 60 * 15; // 15분
     private final long REFRESH_TOKEN_EXP = 1000L * 60 * 60 * 24 * 7; // 7일
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey) {
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String TOKEN_FAMILY_CLAIM = "fid";
+
+    // 서명 키가 고정이므로 파서는 한 번만 생성해 재사용 (thread-safe)
+    private final JwtParser jwtParser;
+
+    // 검증이 끝난 토큰의 Claims 캐시 (토큰 SHA-256 기준, 토큰 만료 시각에 함께 만료, 읽기 전용으로 보관)
+    private final Cache<String, Claims> claimsCache;
+
+    private final RevokedTokenStore revokedTokenStore;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+                            @Value("${jwt.claims-cache.maximum-size:10000}") long claimsCacheMaximumSize,
+                            RevokedTokenStore revokedTokenStore) {
+        this.revokedTokenStore = revokedTokenStore;
         this.SECRET_KEY = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = io.jsonwebtoken.Jwts.parserBuilder()
+                .setSigningKey(SECRET_KEY)
+                .build();
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(new ClaimsExpiry())
+                .build();
     }
 
     // 임시 토큰 생성 (회원가입용)
@@ -35,21 +82,34 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String createAccessToken(String userId, String email) {
+    /**
+     * 새 로그인 세션의 token family ID (로그인/회원가입 시 access/refresh token 에 함께 사용)
+     */
+    public String newTokenFamily() {
+        return UUID.randomUUID().toString();
+    }
+
+    public String createAccessToken(String userId, String email, String familyId) {
         Date now = new Date();
         return io.jsonwebtoken.Jwts.builder()
                 .setSubject(userId)
+                .setId(UUID.randomUUID().toString()) // 로그아웃 시 폐기 기준
                 .claim("email", email)
+                .claim(TOKEN_TYPE_CLAIM, TokenType.ACCESS.name())
+                .claim(TOKEN_FAMILY_CLAIM, familyId)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + ACCESS_TOKEN_EXP))
                 .signWith(SECRET_KEY, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String createRefreshToken(String userId) {
+    public String createRefreshToken(String userId, String familyId) {
         Date now = new Date();
         return io.jsonwebtoken.Jwts.builder()
                 .setSubject(userId)
+                .setId(UUID.randomUUID().toString()) // 재발급 시 한 번만 사용하도록 폐기 기준
+                .claim(TOKEN_TYPE_CLAIM, TokenType.REFRESH.name())
+                .claim(TOKEN_FAMILY_CLAIM, familyId)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + REFRESH_TOKEN_EXP))
                 .signWith(SECRET_KEY, SignatureAlgorithm.HS256)
@@ -57,34 +117,234 @@ public class JwtTokenProvider {
     }
 
     public String getUserId(String token) {
-        return getClaims(token).getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public String getEmail(String token) {
-        return getClaims(token).get("email", String.class);
+        return parseClaims(token).get("email", String.class);
     }
 
     public String getProviderId(String token) {
-        return getClaims(token).getSubject();
+        return parseClaims(token).getSubject();
     }
 
-    private Claims getClaims(String token) {
-        return io.jsonwebtoken.Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * 서명/만료 검증 후 Claims 반환 (한 번 검증한 토큰은 만료 전까지 캐시에서 반환)
+     * - 검증에 실패하면 JwtException(ExpiredJwtException, SignatureException 등) 또는 IllegalArgumentException
+     * - 실패한 토큰은 캐시하지 않는다.
+     * - 같은 Claims 를 여러 요청이 공유하므로 읽기 전용으로 반환한다. (변경 시 UnsupportedOperationException)
+     */
+    public Claims parseClaims(String token) {
+        String cacheKey = hash(token);
+
+        Claims cached = claimsCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            // 캐시 만료 처리 전 짧은 틈에 만료 시각이 지났을 수 있으므로 한 번 더 확인
+            if (cached.getExpiration().after(new Date())) {
+                return cached;
+            }
+            claimsCache.invalidate(cacheKey);
+        }
+
+        Claims claims = new ReadOnlyClaims(jwtParser.parseClaimsJws(token).getBody());
+        if (claims.getExpiration() != null) {
+            claimsCache.put(cacheKey, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * 요청 인증용 Claims (access token 만 허용, 로그아웃/재사용 감지로 폐기된 토큰과 token family 는 거부)
+     * - type 클레임이 없는 이전 형식 토큰도 거부한다. (이전 형식 refresh token 은 type 이 없어 구분할 수 없음)
+     * - 폐기 여부는 메모리에서 확인하므로 요청마다 DB 를 조회하지 않는다.
+     */
+    public Claims parseAccessClaims(String token) {
+        Claims claims = parseClaims(token);
+
+        if (!TokenType.ACCESS.name().equals(claims.get(TOKEN_TYPE_CLAIM, String.class))
+                || claims.getId() == null || getFamilyId(claims) == null) {
+            throw new JwtException("access token 이 아닙니다.");
+        }
+        if (revokedTokenStore.isRevoked(claims.getId()) || revokedTokenStore.isRevoked(getFamilyId(claims))) {
+            throw new JwtException("폐기된 토큰입니다.");
+        }
+        return claims;
+    }
+
+    /**
+     * 재발급용 refresh token Claims (폐기 여부는 재발급 시 DB 에서 확인)
+     */
+    public Claims parseRefreshClaims(String token) {
+        Claims claims = parseClaims(token);
+
+        if (!TokenType.REFRESH.name().equals(claims.get(TOKEN_TYPE_CLAIM, String.class))
+                || claims.getId() == null || getFamilyId(claims) == null) {
+            throw new JwtException("refresh token 이 아닙니다.");
+        }
+        return claims;
+    }
+
+    public String getFamilyId(Claims claims) {
+        return claims.get(TOKEN_FAMILY_CLAIM, String.class);
+    }
+
+    /**
+     * token family 폐기 기록의 만료 시각 (지금까지 발급된 family 의 토큰은 이 시각 전에 모두 만료됨)
+     */
+    public LocalDateTime getFamilyExpiresAt() {
+        return LocalDateTime.now().plus(REFRESH_TOKEN_EXP, ChronoUnit.MILLIS);
+    }
+
+    public LocalDateTime getExpiresAt(Claims claims) {
+        return LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
     }
 
     public boolean validateToken(String token) {
         try {
-            io.jsonwebtoken.Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    // 캐시 키로 토큰 원문 대신 해시를 사용 (메모리에 토큰을 그대로 보관하지 않음)
+    private static String hash(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT 토큰이 비어 있습니다.");
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 읽기 전용 Claims (조회는 원본에 위임하고 변경은 모두 거부)
+     */
+    private static class ReadOnlyClaims extends AbstractMap<String, Object> implements Claims {
+
+        private final Claims claims;
+        private final Map<String, Object> view;
+
+        private ReadOnlyClaims(Claims claims) {
+            this.claims = claims;
+            this.view = Collections.unmodifiableMap(claims);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return view.entrySet();
+        }
+
+        @Override
+        public Object get(Object key) {
+            return view.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return view.containsKey(key);
+        }
+
+        @Override
+        public <T> T get(String claimName, Class<T> requiredType) {
+            return claims.get(claimName, requiredType);
+        }
+
+        @Override
+        public String getIssuer() {
+            return claims.getIssuer();
+        }
+
+        @Override
+        public String getSubject() {
+            return claims.getSubject();
+        }
+
+        @Override
+        public String getAudience() {
+            return claims.getAudience();
+        }
+
+        @Override
+        public Date getExpiration() {
+            return claims.getExpiration();
+        }
+
+        @Override
+        public Date getNotBefore() {
+            return claims.getNotBefore();
+        }
+
+        @Override
+        public Date getIssuedAt() {
+            return claims.getIssuedAt();
+        }
+
+        @Override
+        public String getId() {
+            return claims.getId();
+        }
+
+        @Override
+        public Claims setIssuer(String iss) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Claims setSubject(String sub) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Claims setAudience(String aud) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Claims setExpiration(Date exp) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Claims setNotBefore(Date nbf) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Claims setIssuedAt(Date iat) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Claims setId(String jti) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * 토큰 만료 시각까지만 캐시
+     */
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -7,9 +7,12 @@ import com.project.deartime.app.domain.User;
 import com.project.deartime.global.dto.ApiResponseTemplete;
 import com.project.deartime.global.exception.InvalidTokenException;
 import com.project.deartime.global.exception.SuccessCode;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +21,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -35,22 +39,23 @@ public class UserController {
     ) {
         String tempToken = authHeader.replace("Bearer ", "");
 
-        if (!jwtTokenProvider.validateToken(tempToken)) {
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseClaims(tempToken);
+        } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidTokenException("유효하지 않은 토큰입니다.");
         }
 
-        String providerId = jwtTokenProvider.getProviderId(tempToken);
-        String email = jwtTokenProvider.getEmail(tempToken);
+        String providerId = claims.getSubject();
+        String email = claims.get("email", String.class);
 
-        System.out.println("=== 토큰에서 추출한 정보 ===");
-        System.out.println("providerId: " + providerId);
-        System.out.println("email: " + email);
-        System.out.println("profileImage: " + (profileImage != null ? profileImage.getOriginalFilename() : "없음"));
+        log.debug("[AUTH] 회원가입 요청. hasProfileImage={}", profileImage != null);
 
         User user = userService.signUp(providerId, email, request, profileImage);  // profileImage 추가
 
-        String accessToken = jwtTokenProvider.createAccessToken(user.getId().toString(), user.getEmail());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId().toString());
+        String familyId = jwtTokenProvider.newTokenFamily();
+        String accessToken = jwtTokenProvider.createAccessToken(user.getId().toString(), user.getEmail(), familyId);
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId().toString(), familyId);
 
         response.addHeader("Authorization", "Bearer " + accessToken);
         response.addHeader("Refresh-Token", refreshToken);
@@ -76,9 +81,6 @@ public class UserController {
     public ResponseEntity<ApiResponseTemplete<Map<String, Object>>> getMyInfo(
             @AuthenticationPrincipal String userId
     ) {
-        System.out.println("=== 내 정보 조회 ===");
-        System.out.println("userId: " + userId);
-
         User user = userService.getUserById(Long.parseLong(userId));
 
         Map<String, Object> userData = new HashMap<>();
@@ -98,11 +100,7 @@ public class UserController {
             @RequestPart @Valid UpdateProfileRequest request,  // @RequestBody -> @RequestPart
             @RequestPart(required = false) MultipartFile profileImage  // 추가
     ) {
-        System.out.println("=== 프로필 업데이트 ===");
-        System.out.println("userId: " + userId);
-        System.out.println("nickname: " + request.getNickname());
-        System.out.println("birthDate: " + request.getBirthDate());
-        System.out.println("profileImage: " + (profileImage != null ? profileImage.getOriginalFilename() : "없음"));
+        log.debug("[USER] 프로필 수정 요청. userId={}, hasProfileImage={}", userId, profileImage != null);
 
         User updatedUser = userService.updateProfile(Long.parseLong(userId), request, profileImage);  // profileImage 추가
 
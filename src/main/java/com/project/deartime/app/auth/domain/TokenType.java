@@ -0,0 +1,11 @@
+package com.project.deartime.app.auth.domain;
+
+/**
+ * JWT 토큰 종류 (토큰의 type 클레임 값)
+ * - FAMILY 는 type 클레임 값이 아니라, 폐기 기록(revoked_tokens)에서 token family(fid) 전체 폐기를 나타낸다.
+ */
+public enum TokenType {
+    ACCESS,
+    REFRESH,
+    FAMILY
+}
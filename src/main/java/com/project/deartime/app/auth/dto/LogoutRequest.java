@@ -0,0 +1,12 @@
+package com.project.deartime.app.auth.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LogoutRequest {
+
+    // 함께 폐기할 refresh token (선택)
+    private String refreshToken;
+}
@@ -0,0 +1,13 @@
+package com.project.deartime.app.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "refresh token 이 필요합니다.")
+    private String refreshToken;
+}
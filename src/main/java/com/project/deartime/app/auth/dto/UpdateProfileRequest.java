@@ -21,4 +21,7 @@ public class UpdateProfileRequest {
     private String bio;
 
     private String profileImageUrl;
+
+    // presigned URL 로 직접 업로드한 프로필 이미지 키 (이미지 파일을 함께 보내지 않은 경우에만 사용)
+    private String profileImageKey;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.project.deartime.app.auth.dto;
+
+import com.project.deartime.app.domain.User;
+
+/**
+ * 인증 사용자 요약 (응답/알림에 필요한 최소 정보)
+ * - User 엔티티 전체를 조회하지 않고 UserSnapshotCache 에서 꺼내 쓴다.
+ */
+public record UserSnapshot(
+        Long id,
+        String nickname,
+        String profileImageUrl
+) {
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getNickname(), user.getProfileImageUrl());
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.deartime.app.auth.repository;
+
+import com.project.deartime.app.auth.domain.TokenType;
+import com.project.deartime.app.domain.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * 토큰 폐기 기록
+     * @return 1 이면 이번에 폐기, 0 이면 이미 폐기된 토큰
+     */
+    @Modifying
+    @Query(value = "INSERT INTO revoked_tokens (jti, user_id, token_type, expires_at, revoked_at) " +
+                   "VALUES (:jti, :userId, :tokenType, :expiresAt, :revokedAt) " +
+                   "ON CONFLICT (jti) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("jti") String jti,
+                       @Param("userId") Long userId,
+                       @Param("tokenType") String tokenType,
+                       @Param("expiresAt") LocalDateTime expiresAt,
+                       @Param("revokedAt") LocalDateTime revokedAt);
+
+    // 메모리 폐기 목록 동기화 (마지막 동기화 이후 폐기되었고 아직 만료되지 않은 토큰)
+    @Query("SELECT t FROM RevokedToken t " +
+           "WHERE t.tokenType IN :tokenTypes AND t.revokedAt >= :since AND t.expiresAt > :now")
+    List<RevokedToken> findActiveRevokedSince(@Param("tokenTypes") Collection<TokenType> tokenTypes,
+                                              @Param("since") LocalDateTime since,
+                                              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt < :before")
+    int deleteExpiredBefore(@Param("before") LocalDateTime before);
+}
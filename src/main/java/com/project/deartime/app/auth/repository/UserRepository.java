@@ -1,5 +1,6 @@
 package com.project.deartime.app.auth.repository;
 
+import com.project.deartime.app.auth.dto.UserSnapshot;
 import com.project.deartime.app.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,6 +15,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByNickname(String nickname);
 
+    // 직접 업로드한 프로필 이미지 키 재사용 확인
+    boolean existsByProfileImageUrl(String profileImageUrl);
+
+    // 사용자 요약 조회 (UserSnapshotCache 적재용, 필요한 컬럼만 조회)
+    @Query("SELECT new com.project.deartime.app.auth.dto.UserSnapshot(u.id, u.nickname, u.profileImageUrl) " +
+            "FROM User u WHERE u.id = :userId")
+    Optional<UserSnapshot> findSnapshotById(@Param("userId") Long userId);
+
     @Query("SELECT u FROM User u WHERE " +
             "LOWER(u.nickname) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
             "AND u.id != :currentUserId")
@@ -4,11 +4,9 @@ import com.project.deartime.app.capsule.dto.CapsuleResponse;
 import com.project.deartime.app.capsule.dto.CapsuleType;
 import com.project.deartime.app.capsule.dto.CreateCapsuleRequest;
 import com.project.deartime.app.capsule.service.TimeCapsuleService;
-import com.project.deartime.app.auth.repository.UserRepository;
 import com.project.deartime.global.dto.ApiResponseTemplete;
+import com.project.deartime.global.dto.CursorPageResponse;
 import com.project.deartime.global.dto.PageResponse;
-import com.project.deartime.global.exception.CoreApiException;
-import com.project.deartime.global.exception.ErrorCode;
 import com.project.deartime.global.exception.SuccessCode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -30,7 +28,6 @@ import org.springframework.web.multipart.MultipartFile;
 public class TimeCapsuleController {
 
     private final TimeCapsuleService timeCapsuleService;
-    private final UserRepository userRepository;
 
     /**
      * 타임캡슐 생성
@@ -42,10 +39,8 @@ public class TimeCapsuleController {
             @AuthenticationPrincipal String userId) {
 
         Long userIdLong = Long.parseLong(userId);
-        var user = userRepository.findById(userIdLong)
-                .orElseThrow(() -> new CoreApiException(ErrorCode.USER_NOT_FOUND));
 
-        CapsuleResponse response = timeCapsuleService.createCapsule(userIdLong, request, imageFile, user);
+        CapsuleResponse response = timeCapsuleService.createCapsule(userIdLong, request, imageFile);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -81,6 +76,31 @@ public class TimeCapsuleController {
                         .build());
     }
 
+    /**
+     * 타임캡슐 목록 커서 조회 (필터링, COUNT 쿼리 없음)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponseTemplete<CursorPageResponse<CapsuleResponse>>> getCapsulesByCursor(
+            @RequestParam(required = false) CapsuleType type,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal String userId) {
+
+        Long userIdLong = Long.parseLong(userId);
+
+        CursorPageResponse<CapsuleResponse> response =
+                timeCapsuleService.getCapsulesByTypeAndCursor(userIdLong, type, cursor, size);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponseTemplete.<CursorPageResponse<CapsuleResponse>>builder()
+                        .status(HttpStatus.OK.value())
+                        .success(true)
+                        .message(SuccessCode.CAPSULE_LIST_SUCCESS.getMessage())
+                        .data(response)
+                        .build());
+    }
+
     /**
      * 타임캡슐 상세 조회
      */
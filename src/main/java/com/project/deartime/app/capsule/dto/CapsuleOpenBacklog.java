@@ -0,0 +1,13 @@
+package com.project.deartime.app.capsule.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오픈 시간이 지났지만 알림이 발송되지 않은 캡슐 현황 (스케줄러 지표용)
+ */
+public interface CapsuleOpenBacklog {
+
+    long getBacklog();
+
+    LocalDateTime getOldestOpenAt();
+}
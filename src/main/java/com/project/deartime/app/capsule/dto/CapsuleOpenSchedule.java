@@ -0,0 +1,13 @@
+package com.project.deartime.app.capsule.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오픈 타이머에 등록할 캡슐 (ID와 오픈 시간만)
+ */
+public interface CapsuleOpenSchedule {
+
+    Long getId();
+
+    LocalDateTime getOpenAt();
+}
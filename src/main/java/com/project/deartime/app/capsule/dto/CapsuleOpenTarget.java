@@ -0,0 +1,15 @@
+package com.project.deartime.app.capsule.dto;
+
+/**
+ * 스케줄러가 일괄 선점(claim)한 오픈 대상 캡슐 (알림 발송에 필요한 컬럼만)
+ */
+public interface CapsuleOpenTarget {
+
+    Long getId();
+
+    String getTitle();
+
+    Long getReceiverId();
+
+    String getSenderNickname();
+}
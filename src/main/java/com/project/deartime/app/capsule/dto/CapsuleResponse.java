@@ -1,4 +1,5 @@
 package com.project.deartime.app.capsule.dto;
+import com.project.deartime.app.auth.dto.UserSnapshot;
 import com.project.deartime.app.domain.TimeCapsule;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -46,6 +47,13 @@ public class CapsuleResponse {
     private boolean canAccess;
 
     public static CapsuleResponse from(TimeCapsule capsule, boolean canAccess) {
+        return from(capsule, UserSnapshot.from(capsule.getSender()), canAccess);
+    }
+
+    /**
+     * 보낸 사람 정보를 엔티티 대신 요약에서 채움 (sender 가 참조 프록시인 경우 추가 조회 방지)
+     */
+    public static CapsuleResponse from(TimeCapsule capsule, UserSnapshot sender, boolean canAccess) {
         // openAt 시간 이후(openAt 포함)인 경우 opened 상태
         boolean isOpened = !capsule.getOpenAt().isAfter(LocalDateTime.now());
 
@@ -57,9 +65,9 @@ public class CapsuleResponse {
                 .imageUrl(capsule.getImageUrl())
                 .openAt(capsule.getOpenAt())
                 .isNotified(capsule.getIsNotified())
-                .senderId(capsule.getSender().getId())
-                .senderNickname(capsule.getSender().getNickname())
-                .senderProfileImageUrl(capsule.getSender().getProfileImageUrl())
+                .senderId(sender.id())
+                .senderNickname(sender.nickname())
+                .senderProfileImageUrl(sender.profileImageUrl())
                 .receiverId(capsule.getReceiver().getId())
                 .receiverNickname(capsule.getReceiver().getNickname())
                 .receiverProfileImageUrl(capsule.getReceiver().getProfileImageUrl())
@@ -29,5 +29,8 @@ public class CreateCapsuleRequest {
 
     @NotNull(message = "개봉 일시는 필수입니다.")
     private LocalDateTime openAt;
+
+    // presigned URL 로 직접 업로드한 이미지 키 (이미지 파일을 함께 보내지 않은 경우에만 사용)
+    private String imageKey;
 }
 
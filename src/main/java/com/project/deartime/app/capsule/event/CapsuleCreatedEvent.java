@@ -0,0 +1,12 @@
+package com.project.deartime.app.capsule.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 타임캡슐 생성 이벤트 (커밋 이후 오픈 타이머 등록용)
+ */
+public record CapsuleCreatedEvent(
+        Long capsuleId,
+        LocalDateTime openAt
+) {
+}
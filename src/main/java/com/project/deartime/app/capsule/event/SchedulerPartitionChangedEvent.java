@@ -0,0 +1,11 @@
+package com.project.deartime.app.capsule.event;
+
+import com.project.deartime.app.capsule.scheduler.SchedulerPartition;
+
+/**
+ * 스케줄러 노드 구성 변경 이벤트 (오픈 타이머 재적재용)
+ */
+public record SchedulerPartitionChangedEvent(
+        SchedulerPartition partition
+) {
+}
@@ -0,0 +1,42 @@
+package com.project.deartime.app.capsule.repository;
+
+import com.project.deartime.app.domain.SchedulerNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SchedulerNodeRepository extends JpaRepository<SchedulerNode, String> {
+
+    /**
+     * 노드 heartbeat 갱신 (없으면 등록)
+     * - 노드 간 시계 차이를 피하기 위해 DB 시간(now())을 사용
+     */
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_nodes (node_id, heartbeat_at) VALUES (:nodeId, now()) " +
+                   "ON CONFLICT (node_id) DO UPDATE SET heartbeat_at = now()",
+           nativeQuery = true)
+    int heartbeat(@Param("nodeId") String nodeId);
+
+    /**
+     * 임대가 만료되지 않은 노드 ID 목록 (정렬 순서가 곧 노드 번호)
+     */
+    @Query(value = "SELECT node_id FROM scheduler_nodes " +
+                   "WHERE heartbeat_at > now() - make_interval(secs => :ttlSeconds) " +
+                   "ORDER BY node_id",
+           nativeQuery = true)
+    List<String> findLiveNodeIds(@Param("ttlSeconds") long ttlSeconds);
+
+    /**
+     * 임대가 만료된 노드 정리
+     */
+    @Modifying
+    @Query(value = "DELETE FROM scheduler_nodes " +
+                   "WHERE heartbeat_at <= now() - make_interval(secs => :ttlSeconds)",
+           nativeQuery = true)
+    int deleteExpired(@Param("ttlSeconds") long ttlSeconds);
+}
@@ -1,21 +1,42 @@
 package com.project.deartime.app.capsule.repository;
 
+import com.project.deartime.app.capsule.dto.CapsuleOpenBacklog;
+import com.project.deartime.app.capsule.dto.CapsuleOpenSchedule;
+import com.project.deartime.app.capsule.dto.CapsuleOpenTarget;
 import com.project.deartime.app.domain.TimeCapsule;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 
 @Repository
 public interface TimeCapsuleRepository extends JpaRepository<TimeCapsule, Long> {
 
+    // 직접 업로드한 캡슐 이미지 키 재사용 확인
+    boolean existsByImageUrl(String imageUrl);
+
+    // 커서 기반 조회용 (sender/receiver 패치 조인, (created_at, id) seek 조건 및 정렬)
+    String CAPSULE_SEEK_SELECT = "SELECT tc FROM TimeCapsule tc JOIN FETCH tc.sender JOIN FETCH tc.receiver ";
+
+    String CAPSULE_SEEK =
+            "AND (tc.createdAt < :cursorCreatedAt OR (tc.createdAt = :cursorCreatedAt AND tc.id < :cursorId)) " +
+            "ORDER BY tc.createdAt DESC, tc.id DESC";
+
+    // 선점한 캡슐을 알림 발송용 컬럼과 함께 반환 (발신자 닉네임 조인)
+    String CLAIM_RETURNING =
+            "    RETURNING id, title, sender_id, receiver_id " +
+            ") " +
+            "SELECT c.id AS \"id\", c.title AS \"title\", c.receiver_id AS \"receiverId\", " +
+            "u.nickname AS \"senderNickname\" " +
+            "FROM claimed c JOIN users u ON u.id = c.sender_id";
+
     Page<TimeCapsule> findBySenderId(Long senderId, Pageable pageable);
 
     Page<TimeCapsule> findByReceiverId(Long receiverId, Pageable pageable);
@@ -33,19 +54,90 @@ public interface TimeCapsuleRepository extends JpaRepository<TimeCapsule, Long>
     Page<TimeCapsule> findOpenedCapsules(@Param("userId") Long userId, Pageable pageable);
 
     /**
-     * 오픈 시간이 지났지만 알림이 발송되지 않은 캡슐 조회 (스케줄러용)
+     * 모든 캡슐 커서 조회 (보낸 것 + 받은 것, COUNT 쿼리 없음)
      */
-    @Query("SELECT tc FROM TimeCapsule tc WHERE tc.openAt <= :now AND tc.isNotified = false")
-    List<TimeCapsule> findCapsulesReadyToOpen(@Param("now") LocalDateTime now);
+    @Query(CAPSULE_SEEK_SELECT + "WHERE (tc.sender.id = :userId OR tc.receiver.id = :userId) " + CAPSULE_SEEK)
+    List<TimeCapsule> findAllCapsulesBefore(@Param("userId") Long userId,
+                                            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
 
     /**
-     * Atomic Update: isNotified를 false에서 true로 변경
-     * 동시성 문제 해결을 위해 조건부 업데이트 수행
-     * @return 업데이트된 행 수 (1이면 성공, 0이면 이미 처리됨)
+     * 받은 캡슐 커서 조회
      */
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE TimeCapsule tc SET tc.isNotified = true WHERE tc.id = :id AND tc.isNotified = false")
-    int updateIsNotifiedToTrue(@Param("id") Long id);
-}
+    @Query(CAPSULE_SEEK_SELECT + "WHERE tc.receiver.id = :userId " + CAPSULE_SEEK)
+    List<TimeCapsule> findReceivedCapsulesBefore(@Param("userId") Long userId,
+                                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    /**
+     * 보낸 캡슐 커서 조회
+     */
+    @Query(CAPSULE_SEEK_SELECT + "WHERE tc.sender.id = :userId " + CAPSULE_SEEK)
+    List<TimeCapsule> findSentCapsulesBefore(@Param("userId") Long userId,
+                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    /**
+     * 개봉된 캡슐 커서 조회
+     */
+    @Query(CAPSULE_SEEK_SELECT + "WHERE tc.openAt <= CURRENT_TIMESTAMP " +
+           "AND (tc.sender.id = :userId OR tc.receiver.id = :userId) " + CAPSULE_SEEK)
+    List<TimeCapsule> findOpenedCapsulesBefore(@Param("userId") Long userId,
+                                               @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
 
+    /**
+     * 오픈 시간이 지났지만 알림이 발송되지 않은 캡슐 현황 (스케줄러 지표용)
+     */
+    @Query("SELECT COUNT(tc) AS backlog, MIN(tc.openAt) AS oldestOpenAt " +
+           "FROM TimeCapsule tc WHERE tc.openAt <= :now AND tc.isNotified = false")
+    CapsuleOpenBacklog findOpenBacklog(@Param("now") LocalDateTime now);
+
+    /**
+     * 지정한 시간까지 오픈 예정인 미발송 캡슐 중 현재 노드 담당분 조회 (오픈 타이머 사전 등록용)
+     */
+    @Query("SELECT tc.id AS id, tc.openAt AS openAt FROM TimeCapsule tc " +
+           "WHERE tc.openAt <= :until AND tc.isNotified = false " +
+           "AND MOD(tc.id, :nodeCount) = :nodeIndex")
+    List<CapsuleOpenSchedule> findOpenSchedulesUntil(@Param("until") LocalDateTime until,
+                                                     @Param("nodeIndex") int nodeIndex,
+                                                     @Param("nodeCount") int nodeCount);
 
+    /**
+     * 오픈 대상 캡슐 일괄 선점 (스케줄러용)
+     * - FOR UPDATE SKIP LOCKED 로 다른 인스턴스가 잡은 행은 건너뛰고 최대 :limit 건을 is_notified = true 로 변경
+     * - 변경된 행을 RETURNING 하여 알림 발송에 필요한 발신자 닉네임까지 한 번에 조회
+     * - 호출하는 트랜잭션 안에서 알림 저장까지 끝나야 선점이 확정된다.
+     */
+    @Query(value = "WITH claimed AS ( " +
+                   "    UPDATE time_capsule SET is_notified = true " +
+                   "    WHERE id IN ( " +
+                   "        SELECT id FROM time_capsule " +
+                   "        WHERE open_at <= :now AND is_notified = false " +
+                   "        ORDER BY open_at " +
+                   "        LIMIT :limit " +
+                   "        FOR UPDATE SKIP LOCKED " +
+                   "    ) " +
+                   CLAIM_RETURNING,
+           nativeQuery = true)
+    List<CapsuleOpenTarget> claimCapsulesReadyToOpen(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 지정한 캡슐 중 오픈 시간이 된 캡슐 선점 (오픈 타이머용)
+     * - 스케줄러/다른 인스턴스가 이미 처리했거나 처리 중인 캡슐은 제외된다.
+     */
+    @Query(value = "WITH claimed AS ( " +
+                   "    UPDATE time_capsule SET is_notified = true " +
+                   "    WHERE id IN ( " +
+                   "        SELECT id FROM time_capsule " +
+                   "        WHERE id IN (:ids) AND open_at <= :now AND is_notified = false " +
+                   "        FOR UPDATE SKIP LOCKED " +
+                   "    ) " +
+                   CLAIM_RETURNING,
+           nativeQuery = true)
+    List<CapsuleOpenTarget> claimCapsulesByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,100 @@
+package com.project.deartime.app.capsule.scheduler;
+
+import com.project.deartime.app.capsule.dto.CapsuleOpenTarget;
+import com.project.deartime.app.capsule.repository.TimeCapsuleRepository;
+import com.project.deartime.app.notification.dto.NotificationDraft;
+import com.project.deartime.app.notification.service.NotificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 캡슐 선점 + 오픈 알림 저장을 하나의 트랜잭션으로 처리
+ * - 알림 저장이 실패하면 선점도 롤백되어 다음 실행(타이머/스케줄러)에서 다시 처리된다.
+ * - 폴링 스케줄러와 오픈 타이머가 함께 사용한다.
+ */
+@Slf4j
+@Component
+public class CapsuleOpenProcessor {
+
+    private final TimeCapsuleRepository timeCapsuleRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter notifiedCounter;
+
+    @Value("${capsule.scheduler.batch-size:500}")
+    private int batchSize;
+
+    public CapsuleOpenProcessor(TimeCapsuleRepository timeCapsuleRepository,
+                                NotificationService notificationService,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry) {
+        this.timeCapsuleRepository = timeCapsuleRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = transactionTemplate;
+        this.notifiedCounter = Counter.builder("capsule.open.notified")
+                .description("오픈 알림이 발송된 캡슐 수")
+                .register(meterRegistry);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 오픈 시간이 지난 캡슐을 최대 batch-size 건 선점하여 처리 (폴링 스케줄러용)
+     * @return 처리한 캡슐 수 (실패 시 0)
+     */
+    public int openReadyCapsules(LocalDateTime now) {
+        return process(() -> timeCapsuleRepository.claimCapsulesReadyToOpen(now, batchSize));
+    }
+
+    /**
+     * 지정한 캡슐 중 오픈 시간이 된 캡슐만 선점하여 처리 (오픈 타이머용)
+     * @return 처리한 캡슐 수 (이미 처리된 캡슐 제외, 실패 시 0)
+     */
+    public int openCapsules(Collection<Long> capsuleIds, LocalDateTime now) {
+        if (capsuleIds.isEmpty()) {
+            return 0;
+        }
+        return process(() -> timeCapsuleRepository.claimCapsulesByIds(capsuleIds, now));
+    }
+
+    private int process(Supplier<List<CapsuleOpenTarget>> claim) {
+        try {
+            Integer processed = transactionTemplate.execute(status -> {
+                List<CapsuleOpenTarget> claimed = claim.get();
+
+                if (claimed.isEmpty()) {
+                    return 0;
+                }
+
+                List<NotificationDraft> drafts = claimed.stream()
+                        .map(capsule -> new NotificationDraft(
+                                capsule.getReceiverId(),
+                                capsule.getSenderNickname(),
+                                capsule.getTitle(),
+                                capsule.getId()))
+                        .toList();
+
+                notificationService.notifyCapsulesOpened(drafts);
+                return claimed.size();
+            });
+
+            int count = (processed != null) ? processed : 0;
+            notifiedCounter.increment(count);
+            return count;
+        } catch (Exception e) {
+            log.error("[SCHEDULER] 캡슐 오픈 알림 배치 처리 실패. batchSize={}", batchSize, e);
+            return 0;
+        }
+    }
+}
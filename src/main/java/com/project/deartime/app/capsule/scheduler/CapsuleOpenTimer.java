@@ -0,0 +1,157 @@
+package com.project.deartime.app.capsule.scheduler;
+
+import com.project.deartime.app.capsule.dto.CapsuleOpenSchedule;
+import com.project.deartime.app.capsule.event.CapsuleCreatedEvent;
+import com.project.deartime.app.capsule.event.SchedulerPartitionChangedEvent;
+import com.project.deartime.app.capsule.repository.TimeCapsuleRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타임캡슐 오픈 타이머
+ * - 앞으로 preload-hours 시간 안에 열리는 캡슐을 DelayQueue 에 올려두고, openAt 이 되는 즉시 알림을 발송한다.
+ * - 여러 노드가 실행 중이면 SchedulerNodeRegistry 가 계산한 파티션(id % 노드 수)의 캡슐만 적재한다.
+ * - 새로 생성된 캡슐은 커밋 이후 이벤트로 (파티션과 무관하게 생성한 노드에) 등록되며,
+ *   범위 밖의 캡슐은 주기적인 재적재 때 등록된다.
+ * - 타이머에서 누락되거나 실패한 캡슐은 TimeCapsuleOpenScheduler(저빈도 폴링)가 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CapsuleOpenTimer {
+
+    private final TimeCapsuleRepository timeCapsuleRepository;
+    private final CapsuleOpenProcessor capsuleOpenProcessor;
+    private final SchedulerNodeRegistry schedulerNodeRegistry;
+
+    @Value("${capsule.timer.preload-hours:2}")
+    private long preloadHours;
+
+    private final DelayQueue<ScheduledCapsule> queue = new DelayQueue<>();
+    private final Set<Long> scheduledIds = ConcurrentHashMap.newKeySet();
+
+    // 현재까지 적재한 범위의 끝 (이후에 열리는 캡슐은 다음 재적재 때 등록)
+    private volatile LocalDateTime horizon = LocalDateTime.MIN;
+
+    private volatile Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        preload();
+
+        worker = new Thread(this::run, "capsule-open-timer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * 다음 preload-hours 시간 안에 열리는 담당 파티션의 미발송 캡슐을 타이머에 적재
+     * - 이미 적재된 캡슐이 다른 노드 담당이 되더라도 선점 쿼리에서 한 번만 처리되므로 그대로 둔다.
+     */
+    @Scheduled(fixedDelayString = "${capsule.timer.reload-interval:PT30M}",
+               initialDelayString = "${capsule.timer.reload-interval:PT30M}")
+    public void preload() {
+        LocalDateTime until = LocalDateTime.now().plusHours(preloadHours);
+        SchedulerPartition partition = schedulerNodeRegistry.getPartition();
+
+        // 조회 중 생성된 캡슐이 이벤트로 등록될 수 있도록 범위를 먼저 넓힘 (중복은 scheduledIds로 제거)
+        horizon = until;
+
+        List<CapsuleOpenSchedule> schedules = timeCapsuleRepository.findOpenSchedulesUntil(
+                until, partition.nodeIndex(), partition.nodeCount());
+        schedules.forEach(schedule -> schedule(schedule.getId(), schedule.getOpenAt()));
+
+        log.info("[CAPSULE_TIMER] 오픈 예정 캡슐 적재. partition={}, loaded={}, queued={}, until={}",
+                partition, schedules.size(), queue.size(), until);
+    }
+
+    /**
+     * 노드 구성이 바뀌면 새 파티션 기준으로 다시 적재 (떠난 노드의 캡슐 인수)
+     */
+    @EventListener
+    public void onPartitionChanged(SchedulerPartitionChangedEvent event) {
+        if (worker != null) {
+            preload();
+        }
+    }
+
+    /**
+     * 캡슐 생성 커밋 이후 타이머에 등록
+     */
+    @TransactionalEventListener
+    public void onCapsuleCreated(CapsuleCreatedEvent event) {
+        schedule(event.capsuleId(), event.openAt());
+    }
+
+    private void schedule(Long capsuleId, LocalDateTime openAt) {
+        if (openAt.isAfter(horizon)) {
+            return;
+        }
+        if (scheduledIds.add(capsuleId)) {
+            queue.offer(new ScheduledCapsule(capsuleId, toEpochMillis(openAt)));
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                // 가장 먼저 열리는 캡슐을 기다린 뒤, 같이 도래한 캡슐을 한 배치로 처리
+                List<ScheduledCapsule> due = new ArrayList<>();
+                due.add(queue.take());
+                queue.drainTo(due, capsuleOpenProcessor.getBatchSize() - 1);
+
+                List<Long> capsuleIds = due.stream().map(ScheduledCapsule::capsuleId).toList();
+                int opened = capsuleOpenProcessor.openCapsules(capsuleIds, LocalDateTime.now());
+                capsuleIds.forEach(scheduledIds::remove);
+
+                log.debug("[CAPSULE_TIMER] 캡슐 오픈 처리. due={}, opened={}", capsuleIds.size(), opened);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("[CAPSULE_TIMER] 캡슐 오픈 처리 실패", e);
+            }
+        }
+    }
+
+    // DB의 open_at(마이크로초)보다 먼저 깨어나지 않도록 1ms 여유를 둠
+    private static long toEpochMillis(LocalDateTime openAt) {
+        return openAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + 1;
+    }
+
+    private record ScheduledCapsule(Long capsuleId, long fireAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(fireAtMillis, ((ScheduledCapsule) other).fireAtMillis);
+        }
+    }
+}
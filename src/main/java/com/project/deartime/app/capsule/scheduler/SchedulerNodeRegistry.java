@@ -0,0 +1,93 @@
+package com.project.deartime.app.capsule.scheduler;
+
+import com.project.deartime.app.capsule.event.SchedulerPartitionChangedEvent;
+import com.project.deartime.app.capsule.repository.SchedulerNodeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 스케줄러 노드 등록 및 파티션 계산
+ * - scheduler_nodes 테이블에 heartbeat 를 갱신하고, 임대가 살아있는 노드 목록으로 자신의 파티션을 계산한다.
+ * - 노드 구성이 바뀌면 SchedulerPartitionChangedEvent 를 발행하여 오픈 타이머가 담당 캡슐을 다시 적재하게 한다.
+ * - 파티션은 작업 분배용일 뿐이며, 중복 처리 방지는 캡슐 선점 쿼리(FOR UPDATE SKIP LOCKED)가 보장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerNodeRegistry {
+
+    private final SchedulerNodeRepository schedulerNodeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${capsule.scheduler.lease-ttl:PT30S}")
+    private Duration leaseTtl;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile SchedulerPartition partition = SchedulerPartition.SINGLE;
+
+    public SchedulerPartition getPartition() {
+        return partition;
+    }
+
+    /**
+     * 오픈 타이머 적재 전에 파티션을 먼저 계산
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void register() {
+        heartbeat();
+    }
+
+    /**
+     * 임대 갱신 및 파티션 재계산 (임대 만료 시간의 1/3 주기)
+     */
+    @Scheduled(fixedDelayString = "${capsule.scheduler.heartbeat-interval:PT10S}")
+    public void heartbeat() {
+        try {
+            List<String> liveNodeIds = transactionTemplate.execute(status -> {
+                schedulerNodeRepository.heartbeat(nodeId);
+                schedulerNodeRepository.deleteExpired(leaseTtl.toSeconds());
+                return schedulerNodeRepository.findLiveNodeIds(leaseTtl.toSeconds());
+            });
+
+            if (liveNodeIds == null || !liveNodeIds.contains(nodeId)) {
+                return;
+            }
+
+            SchedulerPartition current = new SchedulerPartition(liveNodeIds.indexOf(nodeId), liveNodeIds.size());
+            if (!current.equals(partition)) {
+                log.info("[SCHEDULER_NODE] 파티션 변경. nodeId={}, {} -> {}", nodeId, partition, current);
+                partition = current;
+                eventPublisher.publishEvent(new SchedulerPartitionChangedEvent(current));
+            }
+        } catch (Exception e) {
+            // heartbeat 실패 시 기존 파티션 유지 (다른 노드에서는 임대 만료 후 제외됨)
+            log.error("[SCHEDULER_NODE] heartbeat 실패. nodeId={}", nodeId, e);
+        }
+    }
+
+    @PreDestroy
+    public void unregister() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> schedulerNodeRepository.deleteById(nodeId));
+        } catch (Exception e) {
+            log.warn("[SCHEDULER_NODE] 노드 등록 해제 실패. nodeId={}", nodeId, e);
+        }
+    }
+}
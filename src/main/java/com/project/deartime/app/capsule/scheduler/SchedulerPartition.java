@@ -0,0 +1,18 @@
+package com.project.deartime.app.capsule.scheduler;
+
+/**
+ * 현재 노드가 담당하는 캡슐 파티션 (id % nodeCount == nodeIndex)
+ */
+public record SchedulerPartition(
+        int nodeIndex,
+        int nodeCount
+) {
+    public static final SchedulerPartition SINGLE = new SchedulerPartition(0, 1);
+
+    /**
+     * 노드 번호가 0인 노드가 리더 (지표 집계 등 한 곳에서만 필요한 작업 담당)
+     */
+    public boolean isLeader() {
+        return nodeIndex == 0;
+    }
+}
@@ -1,19 +1,26 @@
 package com.project.deartime.app.capsule.scheduler;
 
+import com.project.deartime.app.capsule.dto.CapsuleOpenBacklog;
 import com.project.deartime.app.capsule.repository.TimeCapsuleRepository;
-import com.project.deartime.app.domain.TimeCapsule;
-import com.project.deartime.app.notification.service.NotificationService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * 타임캡슐 오픈 시간 도래 시 알림을 발송하는 스케줄러
+ * 타임캡슐 오픈 알림 안전망 스케줄러
+ * - 정시 오픈은 CapsuleOpenTimer 가 담당하고, 이 스케줄러는 타이머에서 누락/실패한 캡슐을 저빈도로 처리한다.
+ * - 오픈 대상 캡슐을 batch-size 단위로 일괄 선점(UPDATE ... FOR UPDATE SKIP LOCKED RETURNING)하고,
+ *   같은 트랜잭션에서 알림을 한 번에 저장한다.
+ * - 여러 인스턴스가 동시에 실행되어도 SKIP LOCKED 로 서로 다른 캡슐을 나눠 처리한다.
+ * - 미발송 현황 집계(지표)는 리더 노드에서만 수행한다.
  */
 @Slf4j
 @Component
@@ -21,72 +28,75 @@ import java.util.List;
 public class TimeCapsuleOpenScheduler {
 
     private final TimeCapsuleRepository timeCapsuleRepository;
-    private final NotificationService notificationService;
-    private final TransactionTemplate transactionTemplate;
+    private final CapsuleOpenProcessor capsuleOpenProcessor;
+    private final SchedulerNodeRegistry schedulerNodeRegistry;
+    private final MeterRegistry meterRegistry;
+
+    // 실행 시점 기준 미발송 캡슐 수 / 가장 오래 기다린 캡슐의 지연 시간(초)
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("capsule.open.backlog", backlogSize, AtomicLong::get)
+                .description("오픈 시간이 지났지만 알림이 발송되지 않은 캡슐 수")
+                .register(meterRegistry);
+        Gauge.builder("capsule.open.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("가장 오래 대기 중인 캡슐의 오픈 지연 시간(초)")
+                .register(meterRegistry);
+    }
 
     /**
-     * 매 분마다 실행하여 오픈 시간이 된 캡슐을 확인하고 알림 발송
+     * 주기적으로 실행하여 오픈 시간이 지난 미발송 캡슐을 확인하고 알림 발송
      * cron: 초 분 시 일 월 요일
      */
-    @Scheduled(cron = "0 * * * * *") // 매 분 0초에 실행
+    @Scheduled(cron = "${capsule.scheduler.cron:0 */10 * * * *}") // 기본 10분마다 실행
     public void checkAndNotifyOpenedCapsules() {
         LocalDateTime now = LocalDateTime.now();
 
-        List<TimeCapsule> capsulesReadyToOpen = timeCapsuleRepository.findCapsulesReadyToOpen(now);
-
-        if (capsulesReadyToOpen.isEmpty()) {
+        // 리더는 현황을 먼저 집계하고 대기 캡슐이 없으면 종료, 나머지 노드는 바로 선점 시도
+        if (schedulerNodeRegistry.getPartition().isLeader() && !recordBacklog(now)) {
             return;
         }
 
-        log.info("[SCHEDULER] 오픈 대기 중인 캡슐 {} 개 발견", capsulesReadyToOpen.size());
+        long startedAt = System.nanoTime();
+        int total = 0;
 
-        for (TimeCapsule capsule : capsulesReadyToOpen) {
-            processIndividualCapsule(capsule.getId());
+        // 한 배치가 가득 찼다면 남은 캡슐이 있을 수 있으므로 계속 선점
+        while (true) {
+            int processed = capsuleOpenProcessor.openReadyCapsules(now);
+            total += processed;
+
+            if (processed < capsuleOpenProcessor.getBatchSize()) {
+                break;
+            }
+        }
+
+        if (total == 0) {
+            return;
         }
+
+        log.info("[SCHEDULER] 캡슐 오픈 알림 발송 완료. count={}, elapsedMs={}",
+                total, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
     }
 
     /**
-     * 개별 캡슐 알림 처리 - 각 캡슐별로 독립적인 트랜잭션으로 처리
-     * Atomic Update를 통해 동시성 문제(Race Condition) 해결
+     * 미발송 캡슐 현황을 지표에 기록
+     * @return 처리할 캡슐이 있으면 true
      */
-    private void processIndividualCapsule(Long capsuleId) {
-        transactionTemplate.executeWithoutResult(status -> {
-            try {
-                // Atomic Update: isNotified가 false인 경우에만 true로 업데이트
-                // 동시에 여러 스케줄러가 실행되더라도 하나만 성공
-                int updatedCount = timeCapsuleRepository.updateIsNotifiedToTrue(capsuleId);
-
-                if (updatedCount == 0) {
-                    // 이미 다른 스케줄러/프로세스에서 처리됨
-                    log.debug("[SCHEDULER] 캡슐 이미 처리됨. capsuleId={}", capsuleId);
-                    return;
-                }
-
-                // 업데이트 성공 시에만 알림 발송
-                TimeCapsule capsule = timeCapsuleRepository.findById(capsuleId)
-                        .orElse(null);
-
-                if (capsule == null) {
-                    log.warn("[SCHEDULER] 캡슐을 찾을 수 없음. capsuleId={}", capsuleId);
-                    return;
-                }
-
-                // 수신자에게 캡슐 오픈 알림 발송
-                notificationService.notifyCapsuleOpened(
-                        capsule.getReceiver(),
-                        capsule.getId(),
-                        capsule.getSender().getNickname(),
-                        capsule.getTitle()
-                );
-
-
-                log.info("[SCHEDULER] 캡슐 오픈 알림 발송 완료. capsuleId={}, receiverId={}",
-                        capsule.getId(), capsule.getReceiver().getId());
-            } catch (Exception e) {
-                log.error("[SCHEDULER] 캡슐 오픈 알림 발송 실패. capsuleId={}", capsuleId, e);
-                status.setRollbackOnly();
-            }
-        });
+    private boolean recordBacklog(LocalDateTime now) {
+        CapsuleOpenBacklog backlog = timeCapsuleRepository.findOpenBacklog(now);
+
+        backlogSize.set(backlog.getBacklog());
+        lagSeconds.set(backlog.getOldestOpenAt() == null
+                ? 0
+                : Duration.between(backlog.getOldestOpenAt(), now).toSeconds());
+
+        if (backlog.getBacklog() == 0) {
+            return false;
+        }
+
+        log.info("[SCHEDULER] 오픈 대기 중인 캡슐 {} 개 발견. lagSeconds={}", backlog.getBacklog(), lagSeconds.get());
+        return true;
     }
 }
-
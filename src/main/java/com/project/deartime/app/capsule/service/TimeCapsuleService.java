@@ -1,8 +1,11 @@
 package com.project.deartime.app.capsule.service;
 
+import com.project.deartime.app.auth.Service.UserSnapshotCache;
+import com.project.deartime.app.auth.dto.UserSnapshot;
 import com.project.deartime.app.capsule.dto.CapsuleResponse;
 import com.project.deartime.app.capsule.dto.CapsuleType;
 import com.project.deartime.app.capsule.dto.CreateCapsuleRequest;
+import com.project.deartime.app.capsule.event.CapsuleCreatedEvent;
 import com.project.deartime.app.capsule.repository.TimeCapsuleRepository;
 import com.project.deartime.app.domain.TimeCapsule;
 import com.project.deartime.app.domain.User;
@@ -10,10 +13,15 @@ import com.project.deartime.app.friend.repository.FriendRepository;
 import com.project.deartime.app.auth.repository.UserRepository;
 import com.project.deartime.app.notification.service.NotificationService;
 import com.project.deartime.app.service.S3Service;
+import com.project.deartime.app.storage.service.S3DeletionQueue;
+import com.project.deartime.app.upload.dto.UploadTarget;
+import com.project.deartime.global.dto.CursorPageResponse;
+import com.project.deartime.global.dto.PageCursor;
 import com.project.deartime.global.exception.CoreApiException;
 import com.project.deartime.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -32,7 +41,10 @@ public class TimeCapsuleService {
     private final FriendRepository friendRepository;
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final S3DeletionQueue s3DeletionQueue;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserSnapshotCache userSnapshotCache;
 
     private static final String CAPSULE_FOLDER = "capsules";
 
@@ -45,7 +57,7 @@ public class TimeCapsuleService {
      * @return 생성된 캡슐 응답
      */
     @Transactional
-    public CapsuleResponse createCapsule(Long senderId, CreateCapsuleRequest request, MultipartFile imageFile, User senderUser) {
+    public CapsuleResponse createCapsule(Long senderId, CreateCapsuleRequest request, MultipartFile imageFile) {
         // 받는 사람이 존재하는지 확인
         if (senderId.equals(request.getReceiverId())) {
             throw new CoreApiException(ErrorCode.CAPSULE_SELF_SEND);
@@ -62,14 +74,24 @@ public class TimeCapsuleService {
             throw new CoreApiException(ErrorCode.CAPSULE_RECEIVER_NOT_FRIEND);
         }
 
+        // 보낸 사람은 캐시된 요약(닉네임/프로필)과 참조 프록시만 사용 (캐시 적중 시 User 조회 없음)
+        UserSnapshot sender = userSnapshotCache.get(senderId);
+
         // 받는 사람 조회
         User receiver = userRepository.findById(request.getReceiverId())
                 .orElseThrow(() -> new CoreApiException(ErrorCode.USER_NOT_FOUND));
 
-        // 이미지 업로드 (선택)
+        // 이미지 업로드 (선택) - 파일이 없으면 직접 업로드한 이미지 키 확인
         String imageUrl = null;
         if (imageFile != null && !imageFile.isEmpty()) {
             imageUrl = s3Service.uploadFile(imageFile, CAPSULE_FOLDER);
+        } else if (request.getImageKey() != null && !request.getImageKey().isBlank()) {
+            // 본인 폴더의 키만 허용하고, 이미 다른 캡슐이 참조하는 키는 거부 (한 캡슐 삭제 시 다른 캡슐 이미지까지 삭제됨)
+            String key = request.getImageKey();
+            if (timeCapsuleRepository.existsByImageUrl(s3Service.getFileUrl(key))) {
+                throw new CoreApiException(ErrorCode.UPLOAD_KEY_ALREADY_USED);
+            }
+            imageUrl = s3Service.confirmUpload(key, UploadTarget.CAPSULE.folder(senderId));
         }
 
         try {
@@ -80,19 +102,22 @@ public class TimeCapsuleService {
                     .theme(request.getTheme())
                     .imageUrl(imageUrl)
                     .openAt(request.getOpenAt())
-                    .sender(senderUser)
+                    .sender(userRepository.getReferenceById(senderId))
                     .receiver(receiver)
                     .isNotified(false)
                     .build();
 
             TimeCapsule savedCapsule = timeCapsuleRepository.save(capsule);
 
+            // 커밋 이후 오픈 타이머에 등록
+            eventPublisher.publishEvent(new CapsuleCreatedEvent(savedCapsule.getId(), savedCapsule.getOpenAt()));
+
             // 수신자에게 알림 발송 (캡슐 제목 포함)
             try {
                 notificationService.notifyCapsuleReceived(
                         receiver,
                         savedCapsule.getId(),
-                        senderUser.getNickname(),
+                        sender.nickname(),
                         savedCapsule.getTitle()
                 );
             } catch (Exception e) {
@@ -101,17 +126,16 @@ public class TimeCapsuleService {
 
             log.info("[CAPSULE] 타임캡슐 생성. capsuleId={}, senderId={}", savedCapsule.getId(), senderId);
 
-            return CapsuleResponse.from(savedCapsule, true);
+            return CapsuleResponse.from(savedCapsule, sender, true);
         } catch (Exception e) {
-            // DB 저장 실패 시 S3에 업로드된 이미지 삭제 시도
-            // 주의: S3 삭제도 실패할 경우 orphan 파일이 남을 수 있음 (별도 정리 작업 필요)
+            // DB 저장 실패 시 S3에 업로드된 이미지 삭제 요청
+            // 현재 트랜잭션은 롤백되므로 별도 트랜잭션으로 대기열에 기록 (실패 시 고아 객체 정리 작업이 처리)
             if (imageUrl != null) {
                 try {
-                    s3Service.deleteFile(imageUrl);
-                    log.info("[CAPSULE] S3 이미지 롤백 완료. imageUrl={}", imageUrl);
-                } catch (Exception s3Exception) {
-                    // S3 삭제 실패 시 경고 레벨로 로깅 (orphan 파일 발생)
-                    log.warn("[CAPSULE] S3 이미지 롤백 실패 - orphan 파일 발생 가능. imageUrl={}", imageUrl, s3Exception);
+                    s3DeletionQueue.enqueueIndependently(List.of(imageUrl));
+                    log.info("[CAPSULE] S3 이미지 삭제 요청 완료. imageUrl={}", imageUrl);
+                } catch (Exception queueException) {
+                    log.warn("[CAPSULE] S3 이미지 삭제 요청 실패 - orphan 파일 발생 가능. imageUrl={}", imageUrl, queueException);
                 }
             }
             throw e;
@@ -154,6 +178,36 @@ public class TimeCapsuleService {
         return capsules.map(capsule -> CapsuleResponse.from(capsule, canAccessCapsule(userId, capsule)));
     }
 
+    /**
+     * 캡슐 목록 커서 조회 (필터링, COUNT 쿼리 없음)
+     *
+     * @param userId 조회 사용자 ID
+     * @param type 캡슐 타입
+     * @param cursor 이전 페이지의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 필터링된 캡슐 커서 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CapsuleResponse> getCapsulesByTypeAndCursor(Long userId, CapsuleType type, String cursor, int size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = CursorPageResponse.clampSize(size);
+        Pageable lookAhead = CursorPageResponse.lookAhead(pageSize);
+
+        if (type == null) {
+            type = CapsuleType.ALL;
+        }
+
+        List<TimeCapsule> capsules = switch (type) {
+            case ALL -> timeCapsuleRepository.findAllCapsulesBefore(userId, pageCursor.createdAt(), pageCursor.id(), lookAhead);
+            case RECEIVED -> timeCapsuleRepository.findReceivedCapsulesBefore(userId, pageCursor.createdAt(), pageCursor.id(), lookAhead);
+            case SENT -> timeCapsuleRepository.findSentCapsulesBefore(userId, pageCursor.createdAt(), pageCursor.id(), lookAhead);
+            case OPENED -> timeCapsuleRepository.findOpenedCapsulesBefore(userId, pageCursor.createdAt(), pageCursor.id(), lookAhead);
+        };
+
+        return CursorPageResponse.of(capsules, pageSize, capsule -> new PageCursor(capsule.getCreatedAt(), capsule.getId()))
+                .map(capsule -> CapsuleResponse.from(capsule, canAccessCapsule(userId, capsule)));
+    }
+
     /**
      * 캡슐 상세 조회
      *
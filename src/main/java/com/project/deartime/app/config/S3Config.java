@@ -1,12 +1,27 @@
 package com.project.deartime.app.config;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.retry.PredefinedBackoffStrategies;
+import com.amazonaws.retry.PredefinedRetryPolicies;
+import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class S3Config {
@@ -20,14 +35,89 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // S3 호환 엔드포인트 (LocalStack 등, 비어 있으면 AWS 기본 엔드포인트), 지정 시 path-style 로 접근
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 일시적 오류(5xx, 스로틀링, 네트워크) 재시도 횟수 및 지수 백오프(full jitter) 범위
+    @Value("${cloud.aws.s3.max-retries:5}")
+    private int maxRetries;
+
+    @Value("${cloud.aws.s3.retry-base-delay-ms:100}")
+    private int retryBaseDelayMs;
+
+    @Value("${cloud.aws.s3.retry-max-backoff-ms:10000}")
+    private int retryMaxBackoffMs;
+
+    // 멀티파트 업로드 기준 크기 / 파트 크기 / 파트 업로드 스레드 수 (서버 전체 공유)
+    @Value("${cloud.aws.s3.multipart-threshold:5MB}")
+    private DataSize multipartThreshold;
+
+    @Value("${cloud.aws.s3.part-size:5MB}")
+    private DataSize partSize;
+
+    @Value("${cloud.aws.s3.transfer-threads:8}")
+    private int transferThreads;
+
+    private TransferManager transferManager;
+
     @Bean
     public AmazonS3 amazonS3() {
         BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
 
-        return AmazonS3ClientBuilder
+        RetryPolicy retryPolicy = new RetryPolicy(
+                PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION,
+                new PredefinedBackoffStrategies.FullJitterBackoffStrategy(retryBaseDelayMs, retryMaxBackoffMs),
+                maxRetries,
+                true
+        );
+
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder
                 .standard()
-                .withRegion(region)
                 .withCredentials(new AWSStaticCredentialsProvider(credentials))
+                .withClientConfiguration(new ClientConfiguration().withRetryPolicy(retryPolicy));
+
+        if (endpoint.isBlank()) {
+            builder.withRegion(region);
+        } else {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 멀티파트 업로드용 TransferManager
+     * - 파트 업로드 스레드 풀은 Executor 빈으로 등록하지 않는다. (등록 시 @Async 기본 실행기가 대체됨)
+     */
+    @Bean(destroyMethod = "")
+    public TransferManager transferManager() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService partUploadPool = new ThreadPoolExecutor(
+                transferThreads, transferThreads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-transfer-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+
+        transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3())
+                .withExecutorFactory(() -> partUploadPool)
+                .withMultipartUploadThreshold(multipartThreshold.toBytes())
+                .withMinimumUploadPartSize(partSize.toBytes())
                 .build();
+        return transferManager;
+    }
+
+    @PreDestroy
+    public void shutdownTransferManager() {
+        if (transferManager != null) {
+            // S3 클라이언트는 다른 빈이 사용하므로 스레드 풀만 종료
+            transferManager.shutdownNow(false);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,10 @@
 package com.project.deartime.app.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.deartime.app.auth.Service.CustomOAuth2UserService;
 import com.project.deartime.app.auth.controller.GoogleOAuth2SuccessHandler;
 import com.project.deartime.app.auth.filter.JwtAuthenticationFilter;
-import com.project.deartime.global.dto.ApiResponseTemplete;
 import com.project.deartime.global.exception.ErrorCode;
+import com.project.deartime.global.exception.ErrorResponseWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,6 +27,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final GoogleOAuth2SuccessHandler googleOAuth2SuccessHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -41,6 +41,7 @@ public class SecurityConfig {
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers(
                                 "/api/auth/google",
+                                "/api/auth/refresh",  // refresh token 으로 재발급
                                 "/api/users/signup",
                                 "/login/oauth2/code/**",
                                 "/oauth2/**",
@@ -65,35 +66,11 @@ public class SecurityConfig {
                 // ✅ 예외 처리 핸들러 추가 (ErrorCode 사용)
                 .exceptionHandling(exception -> exception
                         // 인증되지 않은 사용자 접근 시
-                        .authenticationEntryPoint((request, response, authException) -> {
-                            response.setStatus(ErrorCode.UNAUTHORIZED_EXCEPTION.getHttpStatusCode());
-                            response.setContentType("application/json;charset=UTF-8");
-
-                            ApiResponseTemplete<Object> errorResponse = ApiResponseTemplete.builder()
-                                    .status(ErrorCode.UNAUTHORIZED_EXCEPTION.getHttpStatusCode())
-                                    .success(false)
-                                    .message(ErrorCode.UNAUTHORIZED_EXCEPTION.getMessage())
-                                    .data(null)
-                                    .build();
-
-                            ObjectMapper mapper = new ObjectMapper();
-                            response.getWriter().write(mapper.writeValueAsString(errorResponse));
-                        })
+                        .authenticationEntryPoint((request, response, authException) ->
+                                errorResponseWriter.write(response, ErrorCode.UNAUTHORIZED_EXCEPTION))
                         // 권한이 없는 사용자 접근 시
-                        .accessDeniedHandler((request, response, accessDeniedException) -> {
-                            response.setStatus(ErrorCode.ACCESS_DENIED_EXCEPTION.getHttpStatusCode());
-                            response.setContentType("application/json;charset=UTF-8");
-
-                            ApiResponseTemplete<Object> errorResponse = ApiResponseTemplete.builder()
-                                    .status(ErrorCode.ACCESS_DENIED_EXCEPTION.getHttpStatusCode())
-                                    .success(false)
-                                    .message(ErrorCode.ACCESS_DENIED_EXCEPTION.getMessage())
-                                    .data(null)
-                                    .build();
-
-                            ObjectMapper mapper = new ObjectMapper();
-                            response.getWriter().write(mapper.writeValueAsString(errorResponse));
-                        })
+                        .accessDeniedHandler((request, response, accessDeniedException) ->
+                                errorResponseWriter.write(response, ErrorCode.ACCESS_DENIED_EXCEPTION))
                 )
                 .oauth2Login(oauth2 -> oauth2
                         .userInfoEndpoint(userInfo -> userInfo
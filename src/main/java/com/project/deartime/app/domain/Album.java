@@ -6,7 +6,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "albums")
+@Table(name = "albums", indexes = {
+        @Index(name = "idx_albums_user_created", columnList = "user_id, created_at")
+})
 @Getter
 @Builder
 @AllArgsConstructor
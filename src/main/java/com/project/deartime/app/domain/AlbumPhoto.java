@@ -2,15 +2,18 @@ package com.project.deartime.app.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 @Entity
-@Table(name = "album_photos")
+@Table(name = "album_photos", indexes = {
+        @Index(name = "idx_album_photos_photo", columnList = "photo_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @IdClass(AlbumPhotoId.class)
 @Builder
 @AllArgsConstructor
-public class AlbumPhoto extends BaseTimeEntity {
+public class AlbumPhoto extends BaseTimeEntity implements Persistable<AlbumPhotoId> {
 
     @Id
     @ManyToOne(fetch = FetchType.LAZY)
@@ -21,4 +24,25 @@ public class AlbumPhoto extends BaseTimeEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "album_id", nullable = false)
     private Album album;
+
+    // 복합 키를 직접 지정하므로 save 시 merge(SELECT 후 INSERT) 대신 persist 로 바로 INSERT 하도록 새 엔티티 여부를 직접 관리
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public AlbumPhotoId getId() {
+        return new AlbumPhotoId(photo.getId(), album.getId());
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
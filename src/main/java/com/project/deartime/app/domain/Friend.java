@@ -5,7 +5,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Friend")
+@Table(name = "Friend", indexes = {
+        @Index(name = "idx_friend_friend_status", columnList = "friend_id, status")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -0,0 +1,52 @@
+package com.project.deartime.app.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용(SHA-256) 기준으로 중복 제거된 S3 이미지 객체
+ * - 같은 내용의 파일은 한 객체(images/{sha256}.{ext})로 저장하고, 참조하는 사진/캡슐/프로필 수를 ref_count 로 관리한다.
+ * - ref_count 가 0 이 되면 삭제 대기열에 등록되며, 삭제 워커가 deleting_at 을 표시한 뒤 객체와 행을 삭제한다.
+ * - 삭제 표시된 객체를 다시 참조하면 새 키로 업로드하므로, 워커가 이전 키를 지워도 새 업로드에 영향이 없다.
+ */
+@Entity
+@Table(name = "image_blobs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_image_blobs_sha256", columnNames = "sha256"),
+        @UniqueConstraint(name = "uk_image_blobs_object_key", columnNames = "object_key")
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageBlob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "sha256", nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    // 마지막으로 참조를 획득한 시각 (고아 객체 정리 시 등록 중인 업로드를 건드리지 않기 위함)
+    @Column(name = "acquired_at")
+    private LocalDateTime acquiredAt;
+
+    // 삭제 워커가 삭제를 시작한 시각 (null 이면 사용 중)
+    @Column(name = "deleting_at")
+    private LocalDateTime deletingAt;
+}
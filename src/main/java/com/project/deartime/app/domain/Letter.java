@@ -7,7 +7,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "letters")
+@Table(name = "letters", indexes = {
+        @Index(name = "idx_letters_receiver_deleted_created", columnList = "receiver_id, is_deleted_by_receiver, created_at"),
+        @Index(name = "idx_letters_sender_deleted_created", columnList = "sender_id, is_deleted_by_sender, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "letter_favorite")
+@Table(name = "letter_favorite", indexes = {
+        @Index(name = "idx_letter_favorite_user_created", columnList = "user_id, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @IdClass(LetterFavoriteId.class)
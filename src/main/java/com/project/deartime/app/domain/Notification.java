@@ -5,7 +5,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "Notification")
+@Table(name = "Notification", indexes = {
+        @Index(name = "idx_notification_user_read_created", columnList = "user_id, is_read, created_at"),
+        @Index(name = "idx_notification_user_created_id", columnList = "user_id, created_at, id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
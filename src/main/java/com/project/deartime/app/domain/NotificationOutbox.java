@@ -0,0 +1,34 @@
+package com.project.deartime.app.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 outbox
+ * - 알림 저장과 같은 트랜잭션에서 기록되고, 커밋 이후 디스패처가 웹소켓으로 전송한 뒤 published_at 을 채운다.
+ * - 알림이 삭제될 수 있으므로 FK 없이 ID만 보관한다.
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 웹소켓 전송 대상 사용자
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt; // 전송 완료 시각 (null 이면 미전송)
+}
@@ -0,0 +1,25 @@
+package com.project.deartime.app.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 (알림 배지 조회용)
+ * - 알림 생성/읽음/삭제 트랜잭션에서 함께 증감하므로 배지 조회 시 notification 을 COUNT 하지 않는다.
+ * - 증감은 UnreadNotificationCountRepository 의 UPDATE ... RETURNING 으로만 한다. (엔티티로 수정하지 않음)
+ */
+@Entity
+@Table(name = "notification_unread_count")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationUnreadCount {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+}
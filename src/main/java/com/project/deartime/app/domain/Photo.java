@@ -7,7 +7,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "photos")
+@Table(name = "photos", indexes = {
+        @Index(name = "idx_photos_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_photos_user_taken_id", columnList = "user_id, taken_at, id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -32,6 +35,18 @@ public class Photo extends BaseTimeEntity {
     @Column(name = "taken_at")
     private LocalDateTime takenAt;
 
+    // 리사이즈 파생 이미지 (비동기 생성, 생성 전에는 null)
+    @Column(name = "thumbnail_url", length = 255)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", length = 255)
+    private String mediumUrl;
+
+    // 파생 이미지 생성 실패 횟수 (photo.variant.max-attempts 에 도달하면 backfill 대상에서 제외)
+    @Builder.Default
+    @Column(name = "variant_attempts", nullable = false, columnDefinition = "integer default 0")
+    private Integer variantAttempts = 0;
+
     // N:M 관계 (AlbumPhotos 중간 테이블을 통해 앨범 목록 관리)
     @OneToMany(mappedBy = "photo", cascade = CascadeType.ALL)
     private Set<AlbumPhoto> photoAlbums = new HashSet<>();
@@ -39,4 +54,13 @@ public class Photo extends BaseTimeEntity {
     public void updateCaption(String caption) {
         this.caption = caption;
     }
+
+    // 파생 이미지가 아직 생성되지 않았으면 원본 URL 반환
+    public String getThumbnailOrImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
+    public String getMediumOrImageUrl() {
+        return mediumUrl != null ? mediumUrl : imageUrl;
+    }
 }
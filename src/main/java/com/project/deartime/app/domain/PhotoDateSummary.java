@@ -0,0 +1,32 @@
+package com.project.deartime.app.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 촬영일 사진 수 요약 (타임라인 조회용)
+ * - 사진 업로드/삭제 트랜잭션에서 해당 날짜 행을 증감하므로 photos 를 집계하지 않고 타임라인을 만든다.
+ * - 촬영 일시(taken_at)가 없는 사진은 집계하지 않는다.
+ */
+@Entity
+@Table(name = "photo_date_summary")
+@IdClass(PhotoDateSummaryId.class)
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PhotoDateSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "taken_date")
+    private LocalDate takenDate;
+
+    @Column(name = "photo_count", nullable = false)
+    private int photoCount;
+}
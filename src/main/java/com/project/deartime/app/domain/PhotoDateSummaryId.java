@@ -0,0 +1,15 @@
+package com.project.deartime.app.domain;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PhotoDateSummaryId implements Serializable {
+    private Long userId;
+    private LocalDate takenDate;
+}
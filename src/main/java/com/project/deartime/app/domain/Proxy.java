@@ -5,7 +5,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Proxies")
+@Table(name = "Proxies", indexes = {
+        @Index(name = "idx_proxies_user_proxy_user", columnList = "user_id, proxy_user_id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
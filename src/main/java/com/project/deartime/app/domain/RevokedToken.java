@@ -0,0 +1,39 @@
+package com.project.deartime.app.domain;
+
+import com.project.deartime.app.auth.domain.TokenType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 JWT (jti 기준)
+ * - refresh token 은 재발급에 사용되는 순간 여기에 기록되어 한 번만 사용할 수 있다. (행 삽입 충돌로 동시 재사용 차단)
+ * - 로그아웃한 access token 도 기록되며, 각 노드가 주기적으로 읽어 메모리 폐기 목록에 반영한다.
+ * - 토큰 만료 시각(expires_at)이 지나면 더 이상 필요 없으므로 정리 작업이 삭제한다.
+ */
+@Entity
+@Table(name = "revoked_tokens")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken {
+
+    @Id
+    @Column(name = "jti", length = 36)
+    private String jti;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "token_type", nullable = false, length = 20)
+    private TokenType tokenType;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,37 @@
+package com.project.deartime.app.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3 객체 삭제 대기열
+ * - 파일을 참조하던 행을 지우는 트랜잭션에서 함께 기록되고, 커밋된 뒤 삭제 워커가 DeleteObjects 로 일괄 삭제한다.
+ * - 삭제에 실패하면 attempts 를 늘리고 next_attempt_at 을 뒤로 미뤄 재시도한다.
+ */
+@Entity
+@Table(name = "s3_deletion_tasks")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class S3DeletionTask extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 이 시각 이후 삭제 워커가 선점
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -0,0 +1,27 @@
+package com.project.deartime.app.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 노드 임대(lease) 정보
+ * - 각 애플리케이션 인스턴스가 주기적으로 heartbeat_at 을 갱신하며,
+ *   만료되지 않은 노드 목록으로 캡슐 오픈 작업을 id % 노드 수 로 분배한다.
+ */
+@Entity
+@Table(name = "scheduler_nodes")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerNode {
+
+    @Id
+    @Column(name = "node_id", length = 64)
+    private String nodeId;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+}
@@ -6,7 +6,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "TimeCapsule")
+@Table(name = "TimeCapsule", indexes = {
+        @Index(name = "idx_time_capsule_open_at_notified", columnList = "open_at, is_notified"),
+        @Index(name = "idx_time_capsule_sender_created", columnList = "sender_id, created_at"),
+        @Index(name = "idx_time_capsule_receiver_created", columnList = "receiver_id, created_at")
+})
 @Getter
 @Builder
 @AllArgsConstructor
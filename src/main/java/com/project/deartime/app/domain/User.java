@@ -10,7 +10,9 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_provider_id", columnList = "provider_id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -1,34 +1,75 @@
 package com.project.deartime.app.gallery;
 
-import com.drew.imaging.ImageMetadataReader;
+import com.drew.lang.ByteArrayReader;
 import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifReader;
 import com.drew.metadata.exif.ExifSubIFDDirectory;
+import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+/**
+ * 사진 촬영 일시 추출
+ * - JPEG 는 APP1(Exif) 세그먼트, PNG 는 eXIf 청크만 읽고 이미지 데이터(SOS/IDAT) 이전에 멈춘다.
+ * - 메모리에는 EXIF 세그먼트 하나(최대 64KB)만 올리며, 나머지 헤더 세그먼트는 건너뛴다.
+ */
+@Slf4j
 public class ImageMetadataUtil {
 
+    private static final DateTimeFormatter EXIF_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
+
+    // EXIF 를 찾기 위해 읽는 최대 바이트 수 (이미지 데이터 이전 헤더 영역만 대상)
+    private static final long MAX_SCAN_BYTES = 1024 * 1024;
+
+    // 메모리에 올리는 EXIF 세그먼트 최대 크기 (JPEG 세그먼트 길이 상한과 동일)
+    private static final int MAX_EXIF_BYTES = 64 * 1024;
+
+    private static final byte[] EXIF_PREAMBLE = {'E', 'x', 'i', 'f', 0, 0};
+    private static final byte[] PNG_SIGNATURE_REST = {'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    // JPEG 마커
+    private static final int JPEG_SOI = 0xD8;
+    private static final int JPEG_APP1 = 0xE1;
+    private static final int JPEG_SOS = 0xDA;
+    private static final int JPEG_EOI = 0xD9;
+
+    // PNG 청크 타입
+    private static final int PNG_EXIF = 0x65584966; // "eXIf"
+    private static final int PNG_IDAT = 0x49444154; // "IDAT"
+    private static final int PNG_IEND = 0x49454E44; // "IEND"
+
     public static LocalDateTime extractTakenAt(byte[] imageBytes, String fileName) {
+        return extractTakenAt(new ByteArrayInputStream(imageBytes), fileName);
+    }
+
+    /**
+     * 스트림에서 촬영 일시 추출 (파일 전체를 byte[]로 복사하지 않음)
+     */
+    public static LocalDateTime extractTakenAt(InputStream imageStream, String fileName) {
         // 1. 먼저 메타데이터 추출 시도
-        LocalDateTime takenAt = extractFromMetadata(imageBytes);
+        LocalDateTime takenAt = extractFromMetadata(imageStream);
         if (takenAt != null) return takenAt;
 
         // 2. 메타데이터가 없으면 파일명 분석 (KakaoTalk_20250410_... 형식)
         return extractFromFileName(fileName);
     }
 
-    private static LocalDateTime extractFromMetadata(byte[] imageBytes) {
-        try (InputStream is = new ByteArrayInputStream(imageBytes)) {
-            Metadata metadata = ImageMetadataReader.readMetadata(is);
-            ExifSubIFDDirectory subIfd = metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
-            if (subIfd != null) {
-                String dateStr = subIfd.getString(ExifSubIFDDirectory.TAG_DATETIME_ORIGINAL);
-                if (dateStr != null) {
-                    return LocalDateTime.parse(dateStr, DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss"));
-                }
+    private static LocalDateTime extractFromMetadata(InputStream imageStream) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(imageStream))) {
+            int first = in.readUnsignedByte();
+            int second = in.readUnsignedByte();
+
+            if (first == 0xFF && second == JPEG_SOI) {
+                return readJpegTakenAt(in);
+            }
+            if (first == 0x89 && second == PNG_SIGNATURE_REST[0] && hasPngSignatureRest(in)) {
+                return readPngTakenAt(in);
             }
         } catch (Exception e) {
             return null;
@@ -36,6 +77,118 @@ public class ImageMetadataUtil {
         return null;
     }
 
+    /**
+     * JPEG 세그먼트를 순회하며 Exif APP1 을 찾음 (SOS 를 만나면 중단)
+     */
+    private static LocalDateTime readJpegTakenAt(DataInputStream in) throws IOException {
+        long scanned = 2;
+
+        while (scanned < MAX_SCAN_BYTES) {
+            if (in.readUnsignedByte() != 0xFF) {
+                return null;
+            }
+
+            int marker = in.readUnsignedByte();
+            while (marker == 0xFF) { // 채움 바이트
+                marker = in.readUnsignedByte();
+            }
+            scanned += 2;
+
+            if (marker == JPEG_SOS || marker == JPEG_EOI) {
+                return null;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) { // 길이가 없는 마커
+                continue;
+            }
+
+            int length = in.readUnsignedShort() - 2;
+            scanned += 2;
+            if (length < 0) {
+                return null;
+            }
+
+            if (marker == JPEG_APP1 && length > EXIF_PREAMBLE.length) {
+                byte[] segment = new byte[length];
+                in.readFully(segment);
+                scanned += length;
+
+                // XMP 등 다른 APP1 세그먼트는 건너뜀
+                if (startsWith(segment, EXIF_PREAMBLE)) {
+                    return readTakenAt(segment, EXIF_PREAMBLE.length);
+                }
+                continue;
+            }
+
+            in.skipNBytes(length);
+            scanned += length;
+        }
+        return null;
+    }
+
+    /**
+     * PNG 청크를 순회하며 eXIf 를 찾음 (IDAT 를 만나면 중단)
+     */
+    private static LocalDateTime readPngTakenAt(DataInputStream in) throws IOException {
+        long scanned = 8;
+
+        while (scanned < MAX_SCAN_BYTES) {
+            long length = in.readInt() & 0xFFFFFFFFL;
+            int type = in.readInt();
+            scanned += 8;
+
+            if (type == PNG_IDAT || type == PNG_IEND) {
+                return null;
+            }
+
+            if (type == PNG_EXIF && length <= MAX_EXIF_BYTES) {
+                byte[] chunk = new byte[(int) length];
+                in.readFully(chunk);
+
+                // 일부 인코더는 JPEG 처럼 "Exif\0\0" 를 앞에 붙임
+                int offset = startsWith(chunk, EXIF_PREAMBLE) ? EXIF_PREAMBLE.length : 0;
+                return readTakenAt(chunk, offset);
+            }
+
+            in.skipNBytes(length + 4); // 데이터 + CRC
+            scanned += length + 4;
+        }
+        return null;
+    }
+
+    /**
+     * TIFF 형식의 EXIF 데이터에서 DateTimeOriginal 파싱
+     */
+    private static LocalDateTime readTakenAt(byte[] buffer, int tiffOffset) {
+        Metadata metadata = new Metadata();
+        new ExifReader().extract(new ByteArrayReader(buffer, tiffOffset), metadata);
+
+        ExifSubIFDDirectory subIfd = metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
+        if (subIfd != null) {
+            String dateStr = subIfd.getString(ExifSubIFDDirectory.TAG_DATETIME_ORIGINAL);
+            if (dateStr != null) {
+                return LocalDateTime.parse(dateStr.trim(), EXIF_DATE_FORMAT);
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasPngSignatureRest(DataInputStream in) throws IOException {
+        for (int i = 1; i < PNG_SIGNATURE_REST.length; i++) {
+            if (in.readUnsignedByte() != (PNG_SIGNATURE_REST[i] & 0xFF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(byte[] buffer, byte[] prefix) {
+        if (buffer.length < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer[i] != prefix[i]) return false;
+        }
+        return true;
+    }
+
     private static LocalDateTime extractFromFileName(String fileName) {
         if (fileName == null) return null;
 
@@ -49,8 +202,8 @@ public class ImageMetadataUtil {
                 return LocalDateTime.of(year, month, day, 0, 0);
             }
         } catch (Exception e) {
-            System.err.println("파일명에서 날짜 추출 실패: " + fileName);
+            log.debug("파일명에서 날짜 추출 실패: {}", fileName);
         }
         return null;
     }
-}
\ No newline at end of file
+}
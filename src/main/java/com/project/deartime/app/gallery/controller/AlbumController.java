@@ -18,8 +18,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/albums")
 @RequiredArgsConstructor
@@ -52,15 +50,16 @@ public class AlbumController {
      * GET /api/albums
      */
     @GetMapping
-    public ResponseEntity<ApiResponseTemplete<List<AlbumListResponse>>> getAlbums(
-            @AuthenticationPrincipal String userId
+    public ResponseEntity<ApiResponseTemplete<PageResponse<AlbumListResponse>>> getAlbums(
+            @AuthenticationPrincipal String userId,
+            @PageableDefault(size = 20) Pageable pageable
     ) {
         Long myId = Long.parseLong(userId);
 
-        List<AlbumListResponse> response =
-                photoService.getAlbums(myId);
+        PageResponse<AlbumListResponse> response =
+                photoService.getAlbums(myId, pageable);
 
-        SuccessCode successCode = response.isEmpty()
+        SuccessCode successCode = response.totalElements() == 0
                 ? SuccessCode.ALBUM_LIST_EMPTY
                 : SuccessCode.ALBUM_LIST_FETCH_SUCCESS;
 
@@ -5,6 +5,7 @@ import com.project.deartime.app.gallery.dto.albums.AlbumPhotoResponse;
 import com.project.deartime.app.gallery.dto.photos.*;
 import com.project.deartime.app.gallery.service.PhotoService;
 import com.project.deartime.global.dto.ApiResponseTemplete;
+import com.project.deartime.global.dto.CursorPageResponse;
 import com.project.deartime.global.dto.PageResponse;
 import com.project.deartime.global.exception.SuccessCode;
 import jakarta.validation.Valid;
@@ -12,12 +13,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -54,6 +57,27 @@ public class PhotoController {
         );
     }
 
+    /**
+     * 직접 업로드한 사진 등록
+     * POST /api/photos/confirm
+     * - POST /api/uploads/presigned 로 받은 URL 에 업로드한 뒤 key 목록으로 호출
+     */
+    @PostMapping("/api/photos/confirm")
+    public ResponseEntity<ApiResponseTemplete<List<PhotoUploadResponse>>> confirmUploadedPhotos(
+            @AuthenticationPrincipal String userId,
+            @RequestBody @Valid PhotoConfirmRequest request
+    ) {
+        Long myId = Long.parseLong(userId);
+
+        List<PhotoUploadResponse> response =
+                photoService.confirmUploadedPhotos(myId, request);
+
+        return ApiResponseTemplete.success(
+                SuccessCode.PHOTO_UPLOAD_SUCCESS,
+                response
+        );
+    }
+
     /**
      * 사진 목록 조회
      * GET /api/photos
@@ -78,6 +102,79 @@ public class PhotoController {
         );
     }
 
+    /**
+     * 사진 목록 커서 조회 (업로드 최신순, COUNT 쿼리 없음)
+     * GET /api/photos?cursor=
+     */
+    @GetMapping(value = "/api/photos", params = "cursor")
+    public ResponseEntity<ApiResponseTemplete<CursorPageResponse<PhotoListResponse>>> getPhotosByCursor(
+            @AuthenticationPrincipal String userId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long myId = Long.parseLong(userId);
+
+        CursorPageResponse<PhotoListResponse> response =
+                photoService.getPhotosByCursor(myId, cursor, size);
+
+        SuccessCode successCode = response.data().isEmpty()
+                ? SuccessCode.PHOTO_LIST_EMPTY
+                : SuccessCode.PHOTO_LIST_FETCH_SUCCESS;
+
+        return ApiResponseTemplete.success(
+                successCode,
+                response
+        );
+    }
+
+    /**
+     * 사진 타임라인 조회 (일/월별 촬영 사진 수)
+     * GET /api/photos/timeline?unit=MONTH&from=2024-01-01&to=2024-12-31
+     */
+    @GetMapping("/api/photos/timeline")
+    public ResponseEntity<ApiResponseTemplete<List<PhotoTimelineResponse>>> getTimeline(
+            @AuthenticationPrincipal String userId,
+            @RequestParam(defaultValue = "MONTH") TimelineUnit unit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        Long myId = Long.parseLong(userId);
+
+        List<PhotoTimelineResponse> response =
+                photoService.getTimeline(myId, unit, from, to);
+
+        return ApiResponseTemplete.success(
+                SuccessCode.PHOTO_TIMELINE_FETCH_SUCCESS,
+                response
+        );
+    }
+
+    /**
+     * 촬영일 기준 사진 조회 (해당 날짜부터 과거 방향, 촬영 최신순)
+     * GET /api/photos/timeline/photos?date=2024-05-01 (다음 페이지는 &cursor=)
+     */
+    @GetMapping("/api/photos/timeline/photos")
+    public ResponseEntity<ApiResponseTemplete<CursorPageResponse<PhotoListResponse>>> getPhotosFromDate(
+            @AuthenticationPrincipal String userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long myId = Long.parseLong(userId);
+
+        CursorPageResponse<PhotoListResponse> response =
+                photoService.getPhotosFromDate(myId, date, cursor, size);
+
+        SuccessCode successCode = response.data().isEmpty()
+                ? SuccessCode.PHOTO_LIST_EMPTY
+                : SuccessCode.PHOTO_LIST_FETCH_SUCCESS;
+
+        return ApiResponseTemplete.success(
+                successCode,
+                response
+        );
+    }
+
     /**
      * 사진 캡션 수정
      * POST /api/photos/{photoId}/caption
@@ -8,6 +8,7 @@ public record AlbumDetailResponse(
         Long userId,
         String title,
         String coverImageUrl,
+        String coverThumbnailUrl,
         String ownerNickname,
         LocalDateTime createdAt
 ) {
@@ -19,6 +20,9 @@ public record AlbumDetailResponse(
                 album.getCoverPhoto() != null
                         ? album.getCoverPhoto().getImageUrl()
                         : null,
+                album.getCoverPhoto() != null
+                        ? album.getCoverPhoto().getThumbnailOrImageUrl()
+                        : null,
                 album.getUser().getNickname(),
                 album.getCreatedAt()
         );
@@ -1,24 +1,18 @@
 package com.project.deartime.app.gallery.dto.albums;
 
-import com.project.deartime.app.domain.Album;
 import java.time.LocalDateTime;
 
+/**
+ * 앨범 목록 조회용 프로젝션
+ * - 커버 사진 URL 과 앨범 내 사진 수를 앨범 목록과 함께 한 번의 집계 쿼리로 가져온다.
+ */
 public record AlbumListResponse(
         Long albumId,
         Long userId,
         String title,
         String coverImageUrl,
+        String coverThumbnailUrl,
+        Long photoCount,
         LocalDateTime createdAt
 ) {
-    public static AlbumListResponse fromEntity(Album album) {
-        return new AlbumListResponse(
-                album.getId(),
-                album.getUser().getId(),
-                album.getTitle(),
-                album.getCoverPhoto() != null
-                        ? album.getCoverPhoto().getImageUrl()
-                        : null,
-                album.getCreatedAt()
-        );
-    }
 }
@@ -0,0 +1,16 @@
+package com.project.deartime.app.gallery.dto.photos;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record PhotoConfirmRequest(
+        @NotEmpty(message = "등록할 사진 키가 없습니다.")
+        @Size(max = 20, message = "한 번에 최대 20장까지 등록할 수 있습니다.")
+        List<String> keys,
+
+        String caption,
+        Long albumId
+) {
+}
@@ -10,6 +10,7 @@ public record PhotoDetailResponse(
         Long photoId,
         Long userId,
         String imageUrl,
+        String mediumUrl,
         String caption,
         LocalDateTime uploadedAt,
         LocalDateTime takenAt,
@@ -27,6 +28,7 @@ public record PhotoDetailResponse(
                 photo.getId(),
                 photo.getUser().getId(),
                 photo.getImageUrl(),
+                photo.getMediumOrImageUrl(),
                 photo.getCaption() != null ? photo.getCaption() : "",
                 photo.getCreatedAt(),
                 photo.getTakenAt(),
@@ -0,0 +1,12 @@
+package com.project.deartime.app.gallery.dto.photos;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 저장할 사진 한 건 (업로드/확인이 끝난 이미지 URL 과 촬영 일시)
+ */
+public record PhotoDraft(
+        String imageUrl,
+        LocalDateTime takenAt
+) {
+}
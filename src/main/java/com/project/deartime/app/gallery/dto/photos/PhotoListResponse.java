@@ -8,6 +8,7 @@ public record PhotoListResponse (
         Long photoId,
         Long userId,
         String imageUrl,
+        String thumbnailUrl,
         String caption,
         LocalDateTime takenAt
 ){
@@ -16,6 +17,7 @@ public record PhotoListResponse (
                 photo.getId(),
                 photo.getUser().getId(),
                 photo.getImageUrl(),
+                photo.getThumbnailOrImageUrl(),
                 photo.getCaption() != null ? photo.getCaption() : "",
                 photo.getTakenAt()
         );
@@ -0,0 +1,11 @@
+package com.project.deartime.app.gallery.dto.photos;
+
+import java.time.LocalDate;
+
+/**
+ * 타임라인 집계 행 (일 단위면 촬영일, 월 단위면 해당 월 1일)
+ */
+public interface PhotoTimelineBucket {
+    LocalDate getDate();
+    Long getCount();
+}
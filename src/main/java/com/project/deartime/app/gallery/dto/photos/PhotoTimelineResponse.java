@@ -0,0 +1,12 @@
+package com.project.deartime.app.gallery.dto.photos;
+
+import java.time.LocalDate;
+
+public record PhotoTimelineResponse(
+        LocalDate date,
+        long count
+) {
+    public static PhotoTimelineResponse from(PhotoTimelineBucket bucket) {
+        return new PhotoTimelineResponse(bucket.getDate(), bucket.getCount());
+    }
+}
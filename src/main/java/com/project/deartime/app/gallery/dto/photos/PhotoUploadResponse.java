@@ -7,6 +7,11 @@ public record PhotoUploadResponse(
         String imageUrl,
         String caption,
         LocalDateTime uploadedAt,
-        String message
+        String message,
+        String fileName,
+        boolean success
 ) {
+    public static PhotoUploadResponse failure(String fileName, String message) {
+        return new PhotoUploadResponse(null, null, null, null, message, fileName, false);
+    }
 }
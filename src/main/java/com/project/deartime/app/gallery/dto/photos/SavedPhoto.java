@@ -0,0 +1,14 @@
+package com.project.deartime.app.gallery.dto.photos;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 저장된 사진 (INSERT ... RETURNING 결과, 엔티티를 다시 조회하지 않음)
+ */
+public record SavedPhoto(
+        Long id,
+        String imageUrl,
+        String caption,
+        LocalDateTime takenAt
+) {
+}
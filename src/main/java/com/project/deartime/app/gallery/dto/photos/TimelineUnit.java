@@ -0,0 +1,9 @@
+package com.project.deartime.app.gallery.dto.photos;
+
+/**
+ * 타임라인 집계 단위
+ */
+public enum TimelineUnit {
+    DAY,
+    MONTH
+}
@@ -0,0 +1,11 @@
+package com.project.deartime.app.gallery.event;
+
+import java.util.List;
+
+/**
+ * 사진 저장 이벤트 (커밋 이후 파생 이미지 생성용)
+ */
+public record PhotosUploadedEvent(
+        List<Long> photoIds
+) {
+}
@@ -10,8 +10,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface AlbumPhotoRepository extends JpaRepository<AlbumPhoto, AlbumPhotoId> {
@@ -22,6 +24,10 @@ public interface AlbumPhotoRepository extends JpaRepository<AlbumPhoto, AlbumPho
     // 특정 앨범에서 특정 사진이 존재하는지 확인
     boolean existsByAlbumIdAndPhotoId(Long albumId, Long photoId);
 
+    // 주어진 사진 중 이미 앨범에 들어 있는 사진 ID
+    @Query("SELECT ap.photo.id FROM AlbumPhoto ap WHERE ap.album.id = :albumId AND ap.photo.id IN :photoIds")
+    Set<Long> findPhotoIdsInAlbum(@Param("albumId") Long albumId, @Param("photoIds") Collection<Long> photoIds);
+
     // 특정 사진 앨범 연결 엔티티 찾기
     Optional<AlbumPhoto> findByAlbumIdAndPhotoId(Long albumId, Long photoId);
 
@@ -1,17 +1,27 @@
 package com.project.deartime.app.gallery.repository;
 
 import com.project.deartime.app.domain.Album;
+import com.project.deartime.app.gallery.dto.albums.AlbumListResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 @Repository
 public interface AlbumRepository extends JpaRepository<Album, Long> {
-    List<Album> findByUserIdOrderByCreatedAtDesc(Long userId);
+    // 앨범 목록 (커버 사진 URL, 사진 수 집계 포함)
+    @Query(value = "SELECT new com.project.deartime.app.gallery.dto.albums.AlbumListResponse(" +
+                   "a.id, a.user.id, a.title, cp.imageUrl, COALESCE(cp.thumbnailUrl, cp.imageUrl), " +
+                   "COUNT(ap), a.createdAt) " +
+                   "FROM Album a LEFT JOIN a.coverPhoto cp LEFT JOIN a.albumPhotos ap " +
+                   "WHERE a.user.id = :userId " +
+                   "GROUP BY a.id, a.user.id, a.title, cp.imageUrl, cp.thumbnailUrl, a.createdAt " +
+                   "ORDER BY a.createdAt DESC, a.id DESC",
+           countQuery = "SELECT COUNT(a) FROM Album a WHERE a.user.id = :userId")
+    Page<AlbumListResponse> findAlbumSummaries(@Param("userId") Long userId, Pageable pageable);
 
     @Modifying
     @Query("update Album a set a.coverPhoto = null where a.coverPhoto.id = :photoId")
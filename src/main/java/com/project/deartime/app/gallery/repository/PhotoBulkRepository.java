@@ -0,0 +1,80 @@
+package com.project.deartime.app.gallery.repository;
+
+import com.project.deartime.app.gallery.dto.photos.PhotoDraft;
+import com.project.deartime.app.gallery.dto.photos.SavedPhoto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사진 일괄 저장용 JDBC 리포지토리
+ * - Photo ID가 IDENTITY 전략이라 JPA saveAll은 건별 INSERT가 발생하므로 (hibernate.jdbc.batch_size 미적용),
+ *   배열 파라미터를 unnest 하여 한 번의 INSERT ... RETURNING 으로 저장한다.
+ * - SEQUENCE 전략으로 바꾸면 기존 IDENTITY 컬럼과 시퀀스 값을 맞추는 마이그레이션이 ddl-auto 보다 먼저 실행되어야 하므로
+ *   키 전략은 그대로 두고 NotificationBulkRepository 와 같은 방식을 사용한다.
+ * - ID 는 요청 순서대로 발급되므로 ID 순으로 정렬해 요청 순서와 같은 순서로 반환한다.
+ * - 직접 업로드 URL 은 부분 유니크 인덱스(uk_photos_direct_upload_image_url)로 한 사진에만 등록되므로,
+ *   이미 등록된 URL 은 ON CONFLICT DO NOTHING 으로 건너뛰고 반환 목록에서 빠진다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PhotoBulkRepository {
+
+    private static final String BULK_INSERT_SQL =
+            "WITH inserted AS ( " +
+            "    INSERT INTO photos (user_id, image_url, caption, taken_at, variant_attempts, created_at) " +
+            "    SELECT ?, t.image_url, ?, t.taken_at, 0, ? " +
+            "    FROM unnest(?::text[], ?::timestamp[]) WITH ORDINALITY AS t(image_url, taken_at, ord) " +
+            "    ORDER BY t.ord " +
+            "    ON CONFLICT DO NOTHING " +
+            "    RETURNING id, image_url, caption, taken_at " +
+            ") " +
+            "SELECT id, image_url, caption, taken_at FROM inserted ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 사용자의 사진을 한 번의 쿼리로 저장
+     * @return 저장된 사진 (요청 순서, 이미 등록된 URL 은 제외)
+     */
+    public List<SavedPhoto> insertAll(Long userId, String caption, List<PhotoDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return List.of();
+        }
+
+        int size = drafts.size();
+        String[] imageUrls = new String[size];
+        Timestamp[] takenAts = new Timestamp[size];
+
+        for (int i = 0; i < size; i++) {
+            PhotoDraft draft = drafts.get(i);
+            imageUrls[i] = draft.imageUrl();
+            takenAts[i] = draft.takenAt() != null ? Timestamp.valueOf(draft.takenAt()) : null;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(BULK_INSERT_SQL);
+            ps.setLong(1, userId);
+            ps.setString(2, caption);
+            ps.setTimestamp(3, now);
+            ps.setArray(4, con.createArrayOf("text", imageUrls));
+            ps.setArray(5, con.createArrayOf("timestamp", takenAts));
+            return ps;
+        }, (rs, rowNum) -> {
+            Timestamp takenAt = rs.getTimestamp("taken_at");
+            return new SavedPhoto(
+                    rs.getLong("id"),
+                    rs.getString("image_url"),
+                    rs.getString("caption"),
+                    takenAt != null ? takenAt.toLocalDateTime() : null
+            );
+        });
+    }
+}
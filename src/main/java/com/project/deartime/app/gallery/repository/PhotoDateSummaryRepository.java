@@ -0,0 +1,60 @@
+package com.project.deartime.app.gallery.repository;
+
+import com.project.deartime.app.domain.PhotoDateSummary;
+import com.project.deartime.app.domain.PhotoDateSummaryId;
+import com.project.deartime.app.gallery.dto.photos.PhotoTimelineBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PhotoDateSummaryRepository extends JpaRepository<PhotoDateSummary, PhotoDateSummaryId> {
+
+    /**
+     * 촬영일 사진 수 증가 (행이 없으면 생성, 한 번의 upsert)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO photo_date_summary (user_id, taken_date, photo_count) " +
+                   "VALUES (:userId, :takenDate, :delta) " +
+                   "ON CONFLICT (user_id, taken_date) " +
+                   "DO UPDATE SET photo_count = photo_date_summary.photo_count + EXCLUDED.photo_count",
+           nativeQuery = true)
+    int increment(@Param("userId") Long userId,
+                  @Param("takenDate") LocalDate takenDate,
+                  @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE PhotoDateSummary s SET s.photoCount = s.photoCount - 1 " +
+           "WHERE s.userId = :userId AND s.takenDate = :takenDate")
+    int decrement(@Param("userId") Long userId, @Param("takenDate") LocalDate takenDate);
+
+    // 사진이 모두 삭제된 날짜 행 제거
+    @Modifying
+    @Query("DELETE FROM PhotoDateSummary s " +
+           "WHERE s.userId = :userId AND s.takenDate = :takenDate AND s.photoCount <= 0")
+    int deleteEmpty(@Param("userId") Long userId, @Param("takenDate") LocalDate takenDate);
+
+    @Query(value = "SELECT taken_date AS \"date\", CAST(photo_count AS bigint) AS \"count\" " +
+                   "FROM photo_date_summary " +
+                   "WHERE user_id = :userId AND taken_date BETWEEN :from AND :to " +
+                   "ORDER BY taken_date DESC",
+           nativeQuery = true)
+    List<PhotoTimelineBucket> findDaily(@Param("userId") Long userId,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
+
+    @Query(value = "SELECT CAST(date_trunc('month', taken_date) AS date) AS \"date\", SUM(photo_count) AS \"count\" " +
+                   "FROM photo_date_summary " +
+                   "WHERE user_id = :userId AND taken_date BETWEEN :from AND :to " +
+                   "GROUP BY 1 " +
+                   "ORDER BY 1 DESC",
+           nativeQuery = true)
+    List<PhotoTimelineBucket> findMonthly(@Param("userId") Long userId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+}
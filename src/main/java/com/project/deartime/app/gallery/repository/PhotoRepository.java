@@ -4,9 +4,60 @@ import com.project.deartime.app.domain.Photo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
     Page<Photo> findByUserId(Long userId, Pageable pageable);
+
+    // 사진 커서 조회 (업로드 최신순, COUNT 쿼리 없음)
+    @Query("SELECT p FROM Photo p WHERE p.user.id = :userId " +
+           "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Photo> findByUserIdBefore(@Param("userId") Long userId,
+                                   @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    // 사진 촬영일 seek 조회 (촬영 최신순, idx_photos_user_taken_id 사용, 촬영 일시 없는 사진 제외)
+    @Query("SELECT p FROM Photo p WHERE p.user.id = :userId " +
+           "AND (p.takenAt < :cursorTakenAt OR (p.takenAt = :cursorTakenAt AND p.id < :cursorId)) " +
+           "ORDER BY p.takenAt DESC, p.id DESC")
+    List<Photo> findByUserIdTakenBefore(@Param("userId") Long userId,
+                                        @Param("cursorTakenAt") LocalDateTime cursorTakenAt,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    @Query("SELECT p.imageUrl FROM Photo p WHERE p.id = :photoId")
+    Optional<String> findImageUrlById(@Param("photoId") Long photoId);
+
+    // 이미 사진으로 등록된 이미지 URL (직접 업로드 키 중복 등록 방지, idx_photos_image_url 사용)
+    @Query("SELECT p.imageUrl FROM Photo p WHERE p.imageUrl IN :imageUrls")
+    List<String> findRegisteredImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+
+    // 파생 이미지가 아직 없는 사진 (업로드 직후 생성 중인 사진, 생성 실패 횟수가 상한에 도달한 사진은 제외)
+    @Query("SELECT p.id FROM Photo p WHERE p.thumbnailUrl IS NULL AND p.variantAttempts < :maxAttempts " +
+           "AND p.createdAt < :createdBefore ORDER BY p.id")
+    List<Long> findIdsWithoutVariants(@Param("createdBefore") LocalDateTime createdBefore,
+                                      @Param("maxAttempts") int maxAttempts,
+                                      Pageable pageable);
+
+    // 파생 이미지 생성 실패 횟수 증가
+    @Modifying
+    @Query("UPDATE Photo p SET p.variantAttempts = p.variantAttempts + 1 WHERE p.id = :photoId")
+    int incrementVariantAttempts(@Param("photoId") Long photoId);
+
+    @Modifying
+    @Query("UPDATE Photo p SET p.thumbnailUrl = :thumbnailUrl, p.mediumUrl = :mediumUrl WHERE p.id = :photoId")
+    int updateVariantUrls(@Param("photoId") Long photoId,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("mediumUrl") String mediumUrl);
 }
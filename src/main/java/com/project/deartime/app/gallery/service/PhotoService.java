@@ -2,30 +2,43 @@ package com.project.deartime.app.gallery.service;
 
 import com.project.deartime.app.auth.repository.UserRepository;
 import com.project.deartime.app.domain.*;
-import com.project.deartime.app.gallery.ImageMetadataUtil;
 import com.project.deartime.app.gallery.dto.albums.*;
 import com.project.deartime.app.gallery.dto.photos.*;
+import com.project.deartime.app.gallery.event.PhotosUploadedEvent;
 import com.project.deartime.app.gallery.repository.AlbumPhotoRepository;
 import com.project.deartime.app.gallery.repository.AlbumRepository;
+import com.project.deartime.app.gallery.repository.PhotoBulkRepository;
+import com.project.deartime.app.gallery.repository.PhotoDateSummaryRepository;
 import com.project.deartime.app.gallery.repository.PhotoRepository;
 
 import com.project.deartime.app.service.S3Service;
+import com.project.deartime.app.storage.service.S3DeletionQueue;
+import com.project.deartime.global.dto.CursorPageResponse;
+import com.project.deartime.global.dto.PageCursor;
 import com.project.deartime.global.dto.PageResponse;
 import com.project.deartime.global.exception.CoreApiException;
 import com.project.deartime.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,14 +48,24 @@ import java.util.stream.Collectors;
 public class PhotoService {
 
     private final PhotoRepository photoRepository;
+    private final PhotoBulkRepository photoBulkRepository;
     private final AlbumRepository albumRepository;
     private final AlbumPhotoRepository albumPhotoRepository;
+    private final PhotoDateSummaryRepository photoDateSummaryRepository;
     private final UserRepository userRepository;
+    private final PhotoUploader photoUploader;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final S3DeletionQueue s3DeletionQueue;
     private final S3Service s3Service;
 
     /**
      * 사진 업로드
+     * - EXIF 추출과 S3 업로드는 트랜잭션 밖에서 병렬로 처리하고,
+     *   Photo/AlbumPhoto 저장만 마지막에 하나의 트랜잭션으로 묶는다.
+     * - 파일별 성공/실패를 응답에 담으며, DB 저장이 실패하면 업로드한 S3 파일을 삭제한다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<PhotoUploadResponse> uploadPhotos(
             Long userId,
             List<MultipartFile> files,
@@ -52,78 +75,200 @@ public class PhotoService {
             throw new IllegalArgumentException("업로드할 사진 파일이 없습니다.");
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() ->
-                        new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
-                                "사용자를 찾을 수 없습니다. userId=" + userId)
-                );
+        validateUploadTarget(userId, request.albumId());
+
+        List<MultipartFile> uploadFiles = files.stream()
+                .filter(file -> file != null && !file.isEmpty())
+                .toList();
+
+        List<PhotoUploader.UploadedPhoto> uploaded = photoUploader.uploadAll(uploadFiles, "photos/" + userId);
+
+        return saveAndRespond(userId, request, uploaded, "사진 업로드 및 저장 성공");
+    }
+
+    /**
+     * 직접 업로드(presigned URL)한 사진 등록
+     * - 서버는 파일 본문을 받지 않고, S3 에 올라간 객체를 확인(HEAD + 헤더 범위 조회)한 뒤 저장만 한다.
+     * - 직접 업로드한 객체는 내용 기준 중복 제거 대상이 아니므로 한 키는 한 사진으로만 등록한다.
+     *   (같은 객체를 여러 사진이 가리키면 한 사진 삭제 시 나머지 사진의 파일도 삭제됨)
+     *   요청 안의 중복 키는 한 번만 처리하고, 이미 등록된 키는 실패로 응답한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PhotoUploadResponse> confirmUploadedPhotos(Long userId, PhotoConfirmRequest request) {
+        validateUploadTarget(userId, request.albumId());
+
+        List<String> keys = request.keys().stream()
+                .distinct()
+                .toList();
+        Set<String> registeredKeys = findRegisteredKeys(keys);
+
+        List<String> newKeys = keys.stream()
+                .filter(key -> !registeredKeys.contains(key))
+                .toList();
+        List<PhotoUploader.UploadedPhoto> confirmed = photoUploader.confirmAll(newKeys, "photos/" + userId);
+
+        // 요청 순서대로 결과 병합
+        List<PhotoUploader.UploadedPhoto> results = new ArrayList<>(keys.size());
+        int confirmedIndex = 0;
+        for (String key : keys) {
+            results.add(registeredKeys.contains(key)
+                    ? new PhotoUploader.UploadedPhoto(key, null, null, "이미 등록된 사진입니다.")
+                    : confirmed.get(confirmedIndex++));
+        }
+
+        return saveAndRespond(userId, new PhotoUploadRequest(request.caption(), request.albumId()),
+                results, "사진 등록 성공");
+    }
 
-        Album targetAlbum = null;
-        if (request.albumId() != null) {
-            targetAlbum = albumRepository.findById(request.albumId())
+    /**
+     * 이미 사진으로 등록된 키 (DB 에는 S3Service 가 만든 URL 형태로 저장되어 있음)
+     * - 확인(HEAD/범위 조회) 전에 걸러내기 위한 조회이며, 동시 등록은 저장 시 유니크 인덱스로 막는다.
+     */
+    private Set<String> findRegisteredKeys(List<String> keys) {
+        Map<String, String> keysByUrl = keys.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(s3Service::getFileUrl, key -> key));
+        if (keysByUrl.isEmpty()) {
+            return Set.of();
+        }
+
+        return photoRepository.findRegisteredImageUrls(keysByUrl.keySet()).stream()
+                .map(keysByUrl::get)
+                .collect(Collectors.toSet());
+    }
+
+    private void validateUploadTarget(Long userId, Long albumId) {
+        if (!userRepository.existsById(userId)) {
+            throw new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
+                    "사용자를 찾을 수 없습니다. userId=" + userId);
+        }
+
+        if (albumId != null) {
+            Album targetAlbum = albumRepository.findById(albumId)
                     .orElseThrow(() ->
                             new CoreApiException(ErrorCode.RESOURCE_NOT_FOUND,
-                                    "앨범을 찾을 수 없습니다. userId=" + request.albumId())
+                                    "앨범을 찾을 수 없습니다. userId=" + albumId)
                     );
 
             if (!targetAlbum.getUser().getId().equals(userId)) {
                 throw new AccessDeniedException("앨범에 대한 접근 권한이 없습니다.");
             }
         }
+    }
+
+    /**
+     * 성공한 사진만 저장하고, 요청 순서대로 파일별 결과 응답 생성
+     */
+    private List<PhotoUploadResponse> saveAndRespond(
+            Long userId,
+            PhotoUploadRequest request,
+            List<PhotoUploader.UploadedPhoto> uploaded,
+            String successMessage
+    ) {
+        List<PhotoUploader.UploadedPhoto> succeeded = uploaded.stream()
+                .filter(PhotoUploader.UploadedPhoto::isSuccess)
+                .toList();
+
+        // 같은 URL 이 여러 번 저장될 수 있으므로(내용 기준 중복 제거 객체) URL 별로 저장 순서대로 꺼냄
+        Map<String, ArrayDeque<SavedPhoto>> savedByUrl = savePhotos(userId, request, succeeded).stream()
+                .collect(Collectors.groupingBy(SavedPhoto::imageUrl, Collectors.toCollection(ArrayDeque::new)));
 
         List<PhotoUploadResponse> responses = new ArrayList<>();
 
-        for (MultipartFile file : files) {
-            if (file == null || file.isEmpty()) {
+        for (PhotoUploader.UploadedPhoto result : uploaded) {
+            if (!result.isSuccess()) {
+                responses.add(PhotoUploadResponse.failure(result.fileName(), result.errorMessage()));
                 continue;
             }
 
-            try{
-                byte[] fileBytes = file.getBytes();
-                LocalDateTime takenAt = ImageMetadataUtil.extractTakenAt(fileBytes, file.getOriginalFilename());
+            ArrayDeque<SavedPhoto> saved = savedByUrl.get(result.imageUrl());
+            SavedPhoto savedPhoto = saved == null ? null : saved.poll();
+            if (savedPhoto == null) {
+                // 확인하는 사이 다른 요청이 같은 키를 먼저 등록함 (유니크 인덱스로 건너뜀, 객체는 그 사진이 사용하므로 삭제하지 않음)
+                responses.add(PhotoUploadResponse.failure(result.fileName(), "이미 등록된 사진입니다."));
+                continue;
+            }
 
-                if (takenAt == null) {
-                    log.warn("사진 촬영 일시 메타데이터가 없습니다. 파일명: {}", file.getOriginalFilename());
-                    takenAt = LocalDateTime.now();
-                }
-                String imageUrl =
-                        s3Service.uploadFile(file, "photos/" + user.getId());
+            responses.add(
+                    new PhotoUploadResponse(
+                            savedPhoto.id(),
+                            savedPhoto.imageUrl(),
+                            savedPhoto.caption(),
+                            savedPhoto.takenAt(),
+                            successMessage,
+                            result.fileName(),
+                            true
+                    )
+            );
+        }
 
-                Photo photo = Photo.builder()
-                        .user(user)
-                        .imageUrl(imageUrl)
-                        .caption(request.caption())
-                        .takenAt(takenAt)
-                        .build();
-
-                Photo savedPhoto = photoRepository.save(photo);
-
-                if (targetAlbum != null) {
-                    albumPhotoRepository.save(
-                            AlbumPhoto.builder()
-                                    .album(targetAlbum)
-                                    .photo(savedPhoto)
-                                    .build()
+        return responses;
+    }
+
+    /**
+     * 업로드에 성공한 사진을 한 트랜잭션으로 저장 (실패 시 S3 파일 삭제)
+     * - 사진은 PhotoBulkRepository 로 한 번의 INSERT ... RETURNING 으로 저장 (IDENTITY 키라 saveAll 은 건별 INSERT)
+     */
+    private List<SavedPhoto> savePhotos(Long userId, PhotoUploadRequest request, List<PhotoUploader.UploadedPhoto> uploaded) {
+        if (uploaded.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                List<SavedPhoto> photos = photoBulkRepository.insertAll(
+                        userId,
+                        request.caption(),
+                        uploaded.stream()
+                                .map(result -> new PhotoDraft(result.imageUrl(), result.takenAt()))
+                                .toList()
+                );
+
+                if (request.albumId() != null) {
+                    Album album = albumRepository.getReferenceById(request.albumId());
+                    albumPhotoRepository.saveAll(
+                            photos.stream()
+                                    .map(photo -> AlbumPhoto.builder()
+                                            .album(album)
+                                            .photo(photoRepository.getReferenceById(photo.id()))
+                                            .build())
+                                    .toList()
                     );
                 }
 
-                responses.add(
-                        new PhotoUploadResponse(
-                                savedPhoto.getId(),
-                                savedPhoto.getImageUrl(),
-                                savedPhoto.getCaption(),
-                                savedPhoto.getTakenAt(),
-                                "사진 업로드 및 저장 성공"
-                        )
-                );
-            } catch (IOException e){
-                log.error("파일 처리 중 오류 발생: {}", file.getOriginalFilename(), e);
+                incrementDateSummary(userId, photos);
+
+                // 커밋 이후 썸네일/중간 크기 이미지 생성
+                eventPublisher.publishEvent(new PhotosUploadedEvent(
+                        photos.stream().map(SavedPhoto::id).toList()));
+
+                return photos;
+            });
+        } catch (RuntimeException e) {
+            // 저장에 실패한 사진의 S3 파일은 삭제 대기열로 정리 (대기열 기록도 실패하면 고아 객체 정리 작업이 처리)
+            try {
+                s3DeletionQueue.enqueue(uploaded.stream().map(PhotoUploader.UploadedPhoto::imageUrl).toList());
+            } catch (Exception queueException) {
+                log.warn("[PHOTO UPLOAD] S3 이미지 삭제 요청 실패 - orphan 파일 발생 가능. count={}",
+                        uploaded.size(), queueException);
             }
+            throw e;
         }
-
-        return responses;
     }
 
+    /**
+     * 촬영일 요약 증가 (날짜 오름차순으로 갱신해 동시 업로드 간 행 잠금 순서를 맞춤)
+     */
+    private void incrementDateSummary(Long userId, List<SavedPhoto> photos) {
+        Map<LocalDate, Integer> countsByDate = photos.stream()
+                .map(SavedPhoto::takenAt)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(takenAt -> takenAt.toLocalDate(), TreeMap::new,
+                        Collectors.summingInt(takenAt -> 1)));
+
+        countsByDate.forEach((takenDate, count) ->
+                photoDateSummaryRepository.increment(userId, takenDate, count));
+    }
 
     /**
      * 사진 목록 조회
@@ -136,6 +281,67 @@ public class PhotoService {
         return PageResponse.from(photoPage.map(PhotoListResponse::fromEntity));
     }
 
+    /**
+     * 사진 목록 커서 조회 (업로드 최신순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PhotoListResponse> getPhotosByCursor(Long userId, String cursor, int size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = CursorPageResponse.clampSize(size);
+
+        List<Photo> rows = photoRepository.findByUserIdBefore(
+                userId, pageCursor.createdAt(), pageCursor.id(), CursorPageResponse.lookAhead(pageSize));
+
+        return CursorPageResponse.of(rows, pageSize, photo -> new PageCursor(photo.getCreatedAt(), photo.getId()))
+                .map(PhotoListResponse::fromEntity);
+    }
+
+    /**
+     * 사진 타임라인 조회 (촬영일 요약 테이블 기준 일/월별 사진 수, 최신순)
+     */
+    @Transactional(readOnly = true)
+    public List<PhotoTimelineResponse> getTimeline(Long userId, TimelineUnit unit, LocalDate from, LocalDate to) {
+        LocalDate fromDate = from != null ? from : LocalDate.of(1900, 1, 1);
+        LocalDate toDate = to != null ? to : LocalDate.of(9999, 12, 31);
+
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦을 수 없습니다.");
+        }
+
+        List<PhotoTimelineBucket> buckets = unit == TimelineUnit.MONTH
+                ? photoDateSummaryRepository.findMonthly(userId, fromDate, toDate)
+                : photoDateSummaryRepository.findDaily(userId, fromDate, toDate);
+
+        return buckets.stream()
+                .map(PhotoTimelineResponse::from)
+                .toList();
+    }
+
+    /**
+     * 촬영일 기준 사진 조회 (촬영 최신순)
+     * - cursor 가 없으면 date 당일의 마지막 사진부터, 있으면 커서 다음 사진부터 조회한다.
+     * - 커서의 createdAt 자리에는 마지막 사진의 촬영 일시(taken_at)가 들어간다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PhotoListResponse> getPhotosFromDate(Long userId, LocalDate date, String cursor, int size) {
+        PageCursor pageCursor;
+        if (cursor != null && !cursor.isBlank()) {
+            pageCursor = PageCursor.decode(cursor);
+        } else if (date != null) {
+            pageCursor = new PageCursor(date.plusDays(1).atStartOfDay(), Long.MAX_VALUE);
+        } else {
+            pageCursor = PageCursor.first();
+        }
+
+        int pageSize = CursorPageResponse.clampSize(size);
+
+        List<Photo> rows = photoRepository.findByUserIdTakenBefore(
+                userId, pageCursor.createdAt(), pageCursor.id(), CursorPageResponse.lookAhead(pageSize));
+
+        return CursorPageResponse.of(rows, pageSize, photo -> new PageCursor(photo.getTakenAt(), photo.getId()))
+                .map(PhotoListResponse::fromEntity);
+    }
+
     /**
      * 사진 캡션 수정
      */
@@ -164,18 +370,8 @@ public class PhotoService {
             throw new AccessDeniedException("사진 삭제 권한이 없습니다.");
         }
 
-        // S3 삭제 먼저 시도
-        try {
-            s3Service.deleteFile(photo.getImageUrl());
-        } catch (CoreApiException e) {
-            log.error(
-                    "[PHOTO DELETE] S3 삭제 실패. photoId={}, userId={}",
-                    photoId,
-                    userId,
-                    e
-            );
-            throw e;
-        }
+        // 원본/파생 이미지 삭제 요청 (사진 삭제가 커밋된 뒤 삭제 워커가 처리)
+        s3DeletionQueue.enqueueWithDerived(photo.getImageUrl(), Arrays.asList(photo.getThumbnailUrl(), photo.getMediumUrl()));
 
         // 앨범 커버 해제
         albumRepository.clearCoverPhoto(photoId);
@@ -186,6 +382,13 @@ public class PhotoService {
         // Photo 삭제
         photoRepository.delete(photo);
 
+        // 촬영일 요약 감소
+        if (photo.getTakenAt() != null) {
+            LocalDate takenDate = photo.getTakenAt().toLocalDate();
+            photoDateSummaryRepository.decrement(userId, takenDate);
+            photoDateSummaryRepository.deleteEmpty(userId, takenDate);
+        }
+
         log.info(
                 "[PHOTO DELETE] 사진 삭제 완료. photoId={}, userId={}",
                 photoId,
@@ -237,11 +440,8 @@ public class PhotoService {
      * 앨범 목록 조회
      */
     @Transactional(readOnly = true)
-    public List<AlbumListResponse> getAlbums(Long userId) {
-        return albumRepository.findByUserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(AlbumListResponse::fromEntity)
-                .collect(Collectors.toList());
+    public PageResponse<AlbumListResponse> getAlbums(Long userId, Pageable pageable) {
+        return PageResponse.from(albumRepository.findAlbumSummaries(userId, pageable));
     }
 
     /**
@@ -288,31 +488,37 @@ public class PhotoService {
             throw new AccessDeniedException("사진 추가 권한이 없습니다.");
         }
 
-        List<AlbumPhotoResponse> responses = new ArrayList<>();
+        // 사진 조회 / 기존 포함 여부 조회 / INSERT 배치, 요청 사진 수와 무관하게 고정된 쿼리 수로 처리
+        List<Long> photoIds = request.photoIds().stream().distinct().toList();
 
-        for (Long photoId : request.photoIds()) {
-            Photo photo = photoRepository.findById(photoId)
-                    .orElseThrow(() -> new CoreApiException(ErrorCode.RESOURCE_NOT_FOUND,
-                            "사진을 찾을 수 없습니다. photoId=" + photoId));
+        Map<Long, Photo> photos = photoRepository.findAllById(photoIds).stream()
+                .collect(Collectors.toMap(Photo::getId, photo -> photo));
 
-            if (!photo.getUser().getId().equals(userId)) {
-                throw new AccessDeniedException("본인 사진만 추가할 수 있습니다.");
+        for (Long photoId : photoIds) {
+            Photo photo = photos.get(photoId);
+            if (photo == null) {
+                throw new CoreApiException(ErrorCode.RESOURCE_NOT_FOUND,
+                        "사진을 찾을 수 없습니다. photoId=" + photoId);
             }
 
-            if (!albumPhotoRepository.existsByAlbumIdAndPhotoId(albumId, photoId)) {
-                responses.add(
-                        AlbumPhotoResponse.fromEntity(
-                                albumPhotoRepository.save(
-                                        AlbumPhoto.builder()
-                                                .album(album)
-                                                .photo(photo)
-                                                .build()
-                                )
-                        )
-                );
+            if (!photo.getUser().getId().equals(userId)) {
+                throw new AccessDeniedException("본인 사진만 추가할 수 있습니다.");
             }
         }
-        return responses;
+
+        Set<Long> existingPhotoIds = albumPhotoRepository.findPhotoIdsInAlbum(albumId, photoIds);
+
+        List<AlbumPhoto> newAlbumPhotos = photoIds.stream()
+                .filter(photoId -> !existingPhotoIds.contains(photoId))
+                .map(photoId -> AlbumPhoto.builder()
+                        .album(album)
+                        .photo(photos.get(photoId))
+                        .build())
+                .toList();
+
+        return albumPhotoRepository.saveAll(newAlbumPhotos).stream()
+                .map(AlbumPhotoResponse::fromEntity)
+                .toList();
     }
 
     /**
@@ -0,0 +1,178 @@
+package com.project.deartime.app.gallery.service;
+
+import com.project.deartime.app.gallery.ImageMetadataUtil;
+import com.project.deartime.app.service.S3Service;
+import com.project.deartime.app.storage.service.S3DeletionQueue;
+import com.project.deartime.global.exception.CoreApiException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 여러 사진의 EXIF 추출 + S3 업로드를 병렬로 처리
+ * - 가상 스레드로 파일별 작업을 실행하고, 동시에 진행되는 업로드 수는 max-concurrency 로 제한한다.
+ * - 사진 저장은 하지 않으며, 파일별 성공/실패 결과만 반환한다.
+ *   (직접 업로드 확인에 실패한 파일만 S3 삭제 대기열에 등록)
+ */
+@Slf4j
+@Component
+public class PhotoUploader {
+
+    private final S3Service s3Service;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PhotoUploader(S3Service s3Service,
+                         S3DeletionQueue s3DeletionQueue,
+                         @Value("${photo.upload.max-concurrency:8}") int maxConcurrency) {
+        this.s3Service = s3Service;
+        this.s3DeletionQueue = s3DeletionQueue;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * 파일별 업로드 결과 (실패 시 imageUrl 은 null, errorMessage 에 사유)
+     */
+    public record UploadedPhoto(
+            String fileName,
+            String imageUrl,
+            LocalDateTime takenAt,
+            String errorMessage
+    ) {
+        public boolean isSuccess() {
+            return imageUrl != null;
+        }
+    }
+
+    /**
+     * 파일들을 병렬로 업로드하고 요청 순서대로 결과 반환
+     */
+    public List<UploadedPhoto> uploadAll(List<MultipartFile> files, String folder) {
+        List<Future<UploadedPhoto>> futures = files.stream()
+                .map(file -> executor.submit(() -> upload(file, folder)))
+                .toList();
+
+        return futures.stream()
+                .map(this::await)
+                .toList();
+    }
+
+    private UploadedPhoto upload(MultipartFile file, String folder) {
+        String fileName = file.getOriginalFilename();
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new UploadedPhoto(fileName, null, null, "업로드가 중단되었습니다.");
+        }
+
+        try {
+            LocalDateTime takenAt;
+            try (InputStream inputStream = file.getInputStream()) {
+                takenAt = ImageMetadataUtil.extractTakenAt(inputStream, fileName);
+            }
+
+            if (takenAt == null) {
+                log.warn("사진 촬영 일시 메타데이터가 없습니다. 파일명: {}", fileName);
+                takenAt = LocalDateTime.now();
+            }
+
+            String imageUrl = s3Service.uploadFile(file, folder);
+            return new UploadedPhoto(fileName, imageUrl, takenAt, null);
+        } catch (IllegalArgumentException e) {
+            // 파일 형식/크기 검증 실패
+            return new UploadedPhoto(fileName, null, null, e.getMessage());
+        } catch (Exception e) {
+            log.error("파일 처리 중 오류 발생: {}", fileName, e);
+            return new UploadedPhoto(fileName, null, null, "사진 업로드에 실패했습니다.");
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 클라이언트가 presigned URL 로 직접 올린 파일들을 병렬로 확인하고 요청 순서대로 결과 반환
+     * - 파일 본문은 받지 않고 HEAD 로 형식/크기를 검증한 뒤, 앞부분만 범위 조회해 EXIF 를 읽는다.
+     * - 형식/크기가 맞지 않는 파일은 S3 삭제 대기열에 등록한다.
+     * - 키 중복 제거와 이미 등록된 키 거부는 호출한 쪽(PhotoService)에서 처리한다.
+     */
+    public List<UploadedPhoto> confirmAll(List<String> keys, String folder) {
+        List<Future<UploadedPhoto>> futures = keys.stream()
+                .map(key -> executor.submit(() -> confirm(key, folder)))
+                .toList();
+
+        return futures.stream()
+                .map(this::await)
+                .toList();
+    }
+
+    private UploadedPhoto confirm(String key, String folder) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new UploadedPhoto(key, null, null, "업로드가 중단되었습니다.");
+        }
+
+        try {
+            String imageUrl;
+            try {
+                imageUrl = s3Service.confirmUpload(key, folder);
+            } catch (IllegalArgumentException e) {
+                // 형식/크기가 맞지 않는 파일은 워커가 삭제하도록 대기열에 등록
+                s3DeletionQueue.enqueueKeys(List.of(key));
+                return new UploadedPhoto(key, null, null, e.getMessage());
+            }
+
+            LocalDateTime takenAt = ImageMetadataUtil.extractTakenAt(s3Service.readHeaderRange(key), key);
+
+            if (takenAt == null) {
+                log.warn("사진 촬영 일시 메타데이터가 없습니다. key: {}", key);
+                takenAt = LocalDateTime.now();
+            }
+
+            return new UploadedPhoto(key, imageUrl, takenAt, null);
+        } catch (IllegalArgumentException e) {
+            // 파일 형식/크기 검증 실패
+            return new UploadedPhoto(key, null, null, e.getMessage());
+        } catch (CoreApiException e) {
+            // 잘못된 키 또는 업로드되지 않은 파일
+            return new UploadedPhoto(key, null, null, e.getMessage());
+        } catch (Exception e) {
+            log.error("업로드 파일 확인 중 오류 발생: {}", key, e);
+            return new UploadedPhoto(key, null, null, "사진 등록에 실패했습니다.");
+        } finally {
+            permits.release();
+        }
+    }
+
+    private UploadedPhoto await(Future<UploadedPhoto> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new UploadedPhoto(null, null, null, "업로드가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            log.error("사진 업로드 작업 실행 실패", e.getCause());
+            return new UploadedPhoto(null, null, null, "사진 업로드에 실패했습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
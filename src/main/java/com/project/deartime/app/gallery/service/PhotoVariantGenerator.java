@@ -0,0 +1,212 @@
+package com.project.deartime.app.gallery.service;
+
+import com.project.deartime.app.capsule.scheduler.SchedulerNodeRegistry;
+import com.project.deartime.app.gallery.ImageResizeUtil;
+import com.project.deartime.app.gallery.event.PhotosUploadedEvent;
+import com.project.deartime.app.gallery.repository.PhotoRepository;
+import com.project.deartime.app.service.S3Service;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사진 파생 이미지(썸네일/중간 크기) 생성
+ * - 사진 저장 트랜잭션이 커밋된 뒤 전용 작업 스레드 풀에서 원본을 내려받아 리사이즈 후 원본 옆 키에 업로드한다.
+ * - 리사이즈는 CPU 작업이므로 worker-threads 로 동시 작업 수를 제한하고, 큐가 가득 차면 backfill 에 맡긴다.
+ * - 서버 재시작 등으로 누락된 사진은 backfill 이 주기적으로 다시 생성한다. (같은 키에 덮어쓰므로 중복 실행해도 안전)
+ * - backfill 은 리더 노드에서만 실행해 여러 노드가 같은 사진을 동시에 생성하지 않게 한다.
+ * - 생성에 실패하면 실패 횟수를 기록하고, max-attempts 에 도달한 사진(손상된 원본 등)은 backfill 대상에서 제외한다.
+ *   (계속 실패하는 사진이 id 순 배치의 앞쪽을 차지해 나머지 사진이 처리되지 않는 것을 방지)
+ */
+@Slf4j
+@Component
+public class PhotoVariantGenerator {
+
+    private static final String THUMBNAIL = "thumb";
+    private static final String MEDIUM = "medium";
+
+    private final PhotoRepository photoRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerNodeRegistry schedulerNodeRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    // 큐에 들어가 있거나 생성 중인 사진 (backfill 중복 등록 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${photo.variant.thumbnail-size:320}")
+    private int thumbnailSize;
+
+    @Value("${photo.variant.medium-size:1080}")
+    private int mediumSize;
+
+    @Value("${photo.variant.quality:0.8}")
+    private float quality;
+
+    @Value("${photo.variant.backfill-batch-size:200}")
+    private int backfillBatchSize;
+
+    @Value("${photo.variant.max-attempts:5}")
+    private int maxAttempts;
+
+    public PhotoVariantGenerator(PhotoRepository photoRepository,
+                                 S3Service s3Service,
+                                 TransactionTemplate transactionTemplate,
+                                 SchedulerNodeRegistry schedulerNodeRegistry,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${photo.variant.worker-threads:2}") int workerThreads,
+                                 @Value("${photo.variant.queue-capacity:1000}") int queueCapacity) {
+        this.photoRepository = photoRepository;
+        this.s3Service = s3Service;
+        this.transactionTemplate = transactionTemplate;
+        this.schedulerNodeRegistry = schedulerNodeRegistry;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workerThreads, workerThreads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "photo-variant-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    /**
+     * 사진 저장 트랜잭션 커밋 이후 생성 작업 등록
+     */
+    @TransactionalEventListener
+    public void onPhotosUploaded(PhotosUploadedEvent event) {
+        event.photoIds().forEach(this::submit);
+    }
+
+    /**
+     * 파생 이미지가 없는 사진 재생성 (누락분 및 기존 사진)
+     */
+    @Scheduled(fixedDelayString = "${photo.variant.backfill-interval:PT10M}")
+    public void backfill() {
+        if (!schedulerNodeRegistry.getPartition().isLeader()) {
+            return;
+        }
+
+        // 업로드 직후 커밋 이벤트로 처리 중인 사진은 건너뛰도록 1분 이전 사진만 대상
+        List<Long> photoIds = photoRepository.findIdsWithoutVariants(
+                LocalDateTime.now().minusMinutes(1), maxAttempts, PageRequest.of(0, backfillBatchSize));
+
+        int submitted = 0;
+        for (Long photoId : photoIds) {
+            if (submit(photoId)) {
+                submitted++;
+            }
+        }
+
+        if (submitted > 0) {
+            log.info("[PHOTO VARIANT] 파생 이미지 재생성 등록. count={}", submitted);
+        }
+    }
+
+    private boolean submit(Long photoId) {
+        if (!inFlight.add(photoId)) {
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(photoId);
+                } finally {
+                    inFlight.remove(photoId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(photoId);
+            log.warn("[PHOTO VARIANT] 작업 큐가 가득 차 backfill 로 미룸. photoId={}", photoId);
+            return false;
+        }
+    }
+
+    private void generate(Long photoId) {
+        String imageUrl = photoRepository.findImageUrlById(photoId).orElse(null);
+        if (imageUrl == null) {
+            return; // 이미 삭제된 사진
+        }
+
+        long startedAt = System.nanoTime();
+
+        try {
+            BufferedImage source;
+            try (InputStream inputStream = s3Service.openObject(imageUrl)) {
+                source = ImageResizeUtil.read(inputStream);
+            }
+
+            String thumbnailUrl = s3Service.uploadVariant(imageUrl, THUMBNAIL,
+                    ImageResizeUtil.resizeToJpeg(source, thumbnailSize, quality));
+            String mediumUrl = s3Service.uploadVariant(imageUrl, MEDIUM,
+                    ImageResizeUtil.resizeToJpeg(source, mediumSize, quality));
+
+            // 생성 중 사진이 삭제되었다면 방금 올린 파생 이미지는 고아 객체 정리 작업이 처리
+            // (같은 원본을 공유하는 다른 사진이 같은 키를 쓸 수 있으므로 여기서 바로 삭제하지 않음)
+            Integer updated = transactionTemplate.execute(status ->
+                    photoRepository.updateVariantUrls(photoId, thumbnailUrl, mediumUrl));
+            if (updated == null || updated == 0) {
+                return;
+            }
+
+            record(startedAt, "success");
+            log.debug("[PHOTO VARIANT] 파생 이미지 생성 완료. photoId={}", photoId);
+        } catch (Exception e) {
+            record(startedAt, "failure");
+            log.warn("[PHOTO VARIANT] 파생 이미지 생성 실패. photoId={}, imageUrl={}", photoId, imageUrl, e);
+            recordFailure(photoId);
+        }
+    }
+
+    /**
+     * 실패 횟수 기록 (기록에 실패해도 다음 backfill 에서 다시 시도되므로 로그만 남김)
+     */
+    private void recordFailure(Long photoId) {
+        try {
+            transactionTemplate.execute(status -> photoRepository.incrementVariantAttempts(photoId));
+        } catch (Exception e) {
+            log.warn("[PHOTO VARIANT] 실패 횟수 기록 실패. photoId={}", photoId, e);
+        }
+    }
+
+    private void record(long startedAt, String outcome) {
+        Timer.builder("photo.variant.generate")
+                .description("사진 파생 이미지 생성 소요 시간 (다운로드 + 리사이즈 + 업로드)")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -6,6 +6,7 @@ import com.project.deartime.app.letter.dto.LetterSendRequest;
 import com.project.deartime.app.letter.dto.LetterSendResponse;
 import com.project.deartime.app.letter.service.LetterService;
 import com.project.deartime.global.dto.ApiResponseTemplete;
+import com.project.deartime.global.dto.CursorPageResponse;
 import com.project.deartime.global.dto.PageResponse;
 import com.project.deartime.global.exception.SuccessCode;
 import jakarta.validation.Valid;
@@ -55,6 +56,23 @@ public class LetterController {
         return ApiResponseTemplete.success(successCode, response);
     }
 
+    // 받은 편지 모아보기 (커서 기반, COUNT 쿼리 없음)
+    @GetMapping(value = "/received", params = "cursor")
+    public ResponseEntity<ApiResponseTemplete<CursorPageResponse<LetterListResponse>>> getReceivedLettersByCursor(
+            @AuthenticationPrincipal String userId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "8") int size
+    ) {
+        Long myId = Long.parseLong(userId);
+        CursorPageResponse<LetterListResponse> response = letterService.getReceivedLettersByCursor(myId, cursor, size);
+
+        SuccessCode successCode = response.data().isEmpty()
+                ? SuccessCode.GET_LETTER_EMPTY
+                : SuccessCode.GET_LETTER_SUCCESS;
+
+        return ApiResponseTemplete.success(successCode, response);
+    }
+
     // 보낸 편지 모아보기
     @GetMapping("/sent")
     public ResponseEntity<ApiResponseTemplete<PageResponse<LetterListResponse>>> getSentLetter(
@@ -71,6 +89,23 @@ public class LetterController {
         return ApiResponseTemplete.success(successCode, response);
     }
 
+    // 보낸 편지 모아보기 (커서 기반, COUNT 쿼리 없음)
+    @GetMapping(value = "/sent", params = "cursor")
+    public ResponseEntity<ApiResponseTemplete<CursorPageResponse<LetterListResponse>>> getSentLettersByCursor(
+            @AuthenticationPrincipal String userId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "8") int size
+    ) {
+        Long myId = Long.parseLong(userId);
+        CursorPageResponse<LetterListResponse> response = letterService.getSentLettersByCursor(myId, cursor, size);
+
+        SuccessCode successCode = response.data().isEmpty()
+                ? SuccessCode.GET_LETTER_EMPTY
+                : SuccessCode.GET_LETTER_SUCCESS;
+
+        return ApiResponseTemplete.success(successCode, response);
+    }
+
     // 즐겨찾기 한 편지 모아보기
     @GetMapping("/bookmarked")
     public ResponseEntity<ApiResponseTemplete<PageResponse<LetterListResponse>>> getBookmarkedLetters(
@@ -107,6 +142,25 @@ public class LetterController {
         );
     }
 
+    // 우리의 우체통 (커서 기반, COUNT 쿼리 없음)
+    @GetMapping(value = "/conversation/{targetId}", params = "cursor")
+    public ResponseEntity<ApiResponseTemplete<CursorPageResponse<LetterListResponse>>> getConversationLettersByCursor(
+            @AuthenticationPrincipal String userId,
+            @PathVariable Long targetId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "8") int size
+    ) {
+        Long myId = Long.parseLong(userId);
+        CursorPageResponse<LetterListResponse> response =
+                letterService.getConversationLettersByCursor(myId, targetId, cursor, size);
+
+        SuccessCode successCode = response.data().isEmpty()
+                ? SuccessCode.CONVERSATION_EMPTY
+                : SuccessCode.CONVERSATION_FETCH_SUCCESS;
+
+        return ApiResponseTemplete.success(successCode, response);
+    }
+
     // 편지 상세 확인
     @GetMapping("/{letterId}")
     public ResponseEntity<ApiResponseTemplete<LetterDetailResponse>> getLetterDetail(
@@ -1,7 +1,5 @@
 package com.project.deartime.app.letter.dto;
 
-import com.project.deartime.app.domain.Letter;
-
 import java.time.LocalDateTime;
 
 public record LetterListResponse(
@@ -15,22 +13,16 @@ public record LetterListResponse(
         boolean isRead,
         boolean isBookmarked
 ) {
-    public static LetterListResponse fromEntity(Letter letter, boolean isBookmarked) {
-        String themeCode = letter.getTheme() != null ? letter.getTheme().getCode() : null;
-        String fullContent = letter.getContent();
-        String summary = (fullContent.length() >= 50)
-                ? fullContent.substring(0, 50) + "..."
-                : fullContent;
-
+    public static LetterListResponse from(LetterSummary letter, boolean isBookmarked) {
         return new LetterListResponse(
-                letter.getId(),
-                letter.getSender().getNickname(),
-                letter.getReceiver().getNickname(),
-                letter.getTitle(),
-                summary,
-                themeCode,
-                letter.getCreatedAt(),
-                letter.getIsRead(),
+                letter.letterId(),
+                letter.senderNickname(),
+                letter.receiverNickname(),
+                letter.title(),
+                letter.summary(),
+                letter.themeCode(),
+                letter.sentAt(),
+                letter.isRead(),
                 isBookmarked
         );
     }
@@ -0,0 +1,19 @@
+package com.project.deartime.app.letter.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 편지 목록 조회용 프로젝션
+ * - 목록 화면에 필요한 컬럼만 조회하며, 본문(TEXT)은 SQL에서 50자 요약으로 잘라서 가져온다.
+ */
+public record LetterSummary(
+        Long letterId,
+        String senderNickname,
+        String receiverNickname,
+        String title,
+        String summary,
+        String themeCode,
+        LocalDateTime sentAt,
+        Boolean isRead
+) {
+}
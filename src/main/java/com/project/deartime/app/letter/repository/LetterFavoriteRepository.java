@@ -1,20 +1,31 @@
 package com.project.deartime.app.letter.repository;
 
-import com.project.deartime.app.domain.Letter;
 import com.project.deartime.app.domain.LetterFavorite;
 import com.project.deartime.app.domain.LetterFavoriteId;
+import com.project.deartime.app.letter.dto.LetterSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Repository
 public interface LetterFavoriteRepository extends JpaRepository<LetterFavorite, LetterFavoriteId> {
-    // 특정 user_id로 LetterFavorite 리스트 조회, Letter 엔티티를 패치 조인
-    @Query("SELECT lf.letter FROM LetterFavorite lf WHERE lf.user.id = :userId")
-    Page<Letter> findBookmarkedLettersByUserId(Long userId, Pageable pageable);
+    // 특정 user_id로 즐겨찾기 한 편지 목록 조회 (목록용 프로젝션, sender/receiver/theme 조인)
+    @Query(value = LetterRepository.LETTER_SUMMARY_SELECT +
+                   "FROM LetterFavorite lf JOIN lf.letter l JOIN l.sender s JOIN l.receiver r LEFT JOIN l.theme t " +
+                   "WHERE lf.user.id = :userId",
+           countQuery = "SELECT COUNT(lf) FROM LetterFavorite lf WHERE lf.user.id = :userId")
+    Page<LetterSummary> findBookmarkedLetterSummaries(@Param("userId") Long userId, Pageable pageable);
 
     // 편지 즐겨찾기/취소
     boolean existsByUserIdAndLetterId(Long userId, Long letterId);
+
+    // 편지 목록 페이지의 즐겨찾기 여부를 한 번의 쿼리로 조회 (letter_id IN (...))
+    @Query("SELECT lf.letter.id FROM LetterFavorite lf WHERE lf.user.id = :userId AND lf.letter.id IN :letterIds")
+    Set<Long> findBookmarkedLetterIds(@Param("userId") Long userId, @Param("letterIds") Collection<Long> letterIds);
 }
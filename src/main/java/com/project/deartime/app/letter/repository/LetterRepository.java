@@ -1,6 +1,7 @@
 package com.project.deartime.app.letter.repository;
 
 import com.project.deartime.app.domain.Letter;
+import com.project.deartime.app.letter.dto.LetterSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,22 +9,81 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LetterRepository extends JpaRepository<Letter, Long> {
+
+    // 목록 조회용 프로젝션 (sender/receiver/theme 조인, 본문은 50자 요약만 조회)
+    String LETTER_SUMMARY_SELECT =
+            "SELECT new com.project.deartime.app.letter.dto.LetterSummary(" +
+            "l.id, s.nickname, r.nickname, l.title, " +
+            "CASE WHEN LENGTH(l.content) >= 50 THEN CONCAT(LEFT(l.content, 50), '...') ELSE l.content END, " +
+            "t.code, l.createdAt, l.isRead) ";
+
+    String LETTER_SUMMARY_FROM =
+            "FROM Letter l JOIN l.sender s JOIN l.receiver r LEFT JOIN l.theme t ";
+
+    // 커서 기반 조회용 (created_at, id) seek 조건 및 정렬
+    String LETTER_SEEK =
+            "AND (l.createdAt < :cursorCreatedAt OR (l.createdAt = :cursorCreatedAt AND l.id < :cursorId)) ";
+
+    String LETTER_SEEK_ORDER = "ORDER BY l.createdAt DESC, l.id DESC";
+
     // receiverId로 조회하며, 수신자가 삭제하지 않은 편지만 반환
-    Page<Letter> findByReceiverIdAndIsDeletedByReceiverFalse(Long receiverId, Pageable pageable);
+    @Query(value = LETTER_SUMMARY_SELECT + LETTER_SUMMARY_FROM +
+                   "WHERE r.id = :receiverId AND l.isDeletedByReceiver = FALSE",
+           countQuery = "SELECT COUNT(l) FROM Letter l " +
+                        "WHERE l.receiver.id = :receiverId AND l.isDeletedByReceiver = FALSE")
+    Page<LetterSummary> findReceivedLetterSummaries(@Param("receiverId") Long receiverId, Pageable pageable);
 
     // senderId로 조회하며, 발신자가 삭제하지 않은 편지만 반환
-    Page<Letter> findBySenderIdAndIsDeletedBySenderFalse(Long senderId, Pageable pageable);
+    @Query(value = LETTER_SUMMARY_SELECT + LETTER_SUMMARY_FROM +
+                   "WHERE s.id = :senderId AND l.isDeletedBySender = FALSE",
+           countQuery = "SELECT COUNT(l) FROM Letter l " +
+                        "WHERE l.sender.id = :senderId AND l.isDeletedBySender = FALSE")
+    Page<LetterSummary> findSentLetterSummaries(@Param("senderId") Long senderId, Pageable pageable);
+
+    // 받은 편지 커서 조회 (COUNT 쿼리 없음)
+    @Query(LETTER_SUMMARY_SELECT + LETTER_SUMMARY_FROM +
+           "WHERE r.id = :receiverId AND l.isDeletedByReceiver = FALSE " +
+           LETTER_SEEK + LETTER_SEEK_ORDER)
+    List<LetterSummary> findReceivedLetterSummariesBefore(@Param("receiverId") Long receiverId,
+                                                          @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Pageable pageable);
+
+    // 보낸 편지 커서 조회 (COUNT 쿼리 없음)
+    @Query(LETTER_SUMMARY_SELECT + LETTER_SUMMARY_FROM +
+           "WHERE s.id = :senderId AND l.isDeletedBySender = FALSE " +
+           LETTER_SEEK + LETTER_SEEK_ORDER)
+    List<LetterSummary> findSentLetterSummariesBefore(@Param("senderId") Long senderId,
+                                                      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Pageable pageable);
 
     // 편지 상세 확인
     Optional<Letter> findById(Long letterId);
 
     // 특정인과 주고받은 편지
-    @Query("SELECT l FROM Letter l " +
-           "WHERE (l.sender.id = :user1Id AND l.receiver.id = :user2Id AND l.isDeletedBySender = FALSE) " +
-           "OR (l.sender.id = :user2Id AND l.receiver.id = :user1Id AND l.isDeletedByReceiver = FALSE) ")
-    Page<Letter> findConversationLetters(@Param("user1Id") Long user1Id, @Param("user2Id") Long user2Id, Pageable pageable);
+    @Query(value = LETTER_SUMMARY_SELECT + LETTER_SUMMARY_FROM +
+                   "WHERE (s.id = :user1Id AND r.id = :user2Id AND l.isDeletedBySender = FALSE) " +
+                   "OR (s.id = :user2Id AND r.id = :user1Id AND l.isDeletedByReceiver = FALSE) ",
+           countQuery = "SELECT COUNT(l) FROM Letter l " +
+                        "WHERE (l.sender.id = :user1Id AND l.receiver.id = :user2Id AND l.isDeletedBySender = FALSE) " +
+                        "OR (l.sender.id = :user2Id AND l.receiver.id = :user1Id AND l.isDeletedByReceiver = FALSE) ")
+    Page<LetterSummary> findConversationLetterSummaries(@Param("user1Id") Long user1Id, @Param("user2Id") Long user2Id, Pageable pageable);
+
+    // 특정인과 주고받은 편지 커서 조회 (COUNT 쿼리 없음)
+    @Query(LETTER_SUMMARY_SELECT + LETTER_SUMMARY_FROM +
+           "WHERE ((s.id = :user1Id AND r.id = :user2Id AND l.isDeletedBySender = FALSE) " +
+           "OR (s.id = :user2Id AND r.id = :user1Id AND l.isDeletedByReceiver = FALSE)) " +
+           LETTER_SEEK + LETTER_SEEK_ORDER)
+    List<LetterSummary> findConversationLetterSummariesBefore(@Param("user1Id") Long user1Id,
+                                                              @Param("user2Id") Long user2Id,
+                                                              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                              @Param("cursorId") Long cursorId,
+                                                              Pageable pageable);
 }
@@ -1,16 +1,21 @@
 package com.project.deartime.app.letter.service;
 
+import com.project.deartime.app.auth.Service.UserSnapshotCache;
+import com.project.deartime.app.auth.dto.UserSnapshot;
 import com.project.deartime.app.auth.repository.UserRepository;
 import com.project.deartime.app.domain.*;
 import com.project.deartime.app.letter.dto.LetterDetailResponse;
 import com.project.deartime.app.letter.dto.LetterListResponse;
 import com.project.deartime.app.letter.dto.LetterSendRequest;
 import com.project.deartime.app.letter.dto.LetterSendResponse;
+import com.project.deartime.app.letter.dto.LetterSummary;
 import com.project.deartime.app.letter.repository.LetterFavoriteRepository;
 import com.project.deartime.app.letter.repository.LetterRepository;
 import com.project.deartime.app.letter.repository.LetterThemeRepository;
 import com.project.deartime.app.notification.service.NotificationService;
 
+import com.project.deartime.global.dto.CursorPageResponse;
+import com.project.deartime.global.dto.PageCursor;
 import com.project.deartime.global.dto.PageResponse;
 import com.project.deartime.global.exception.CoreApiException;
 import com.project.deartime.global.exception.ErrorCode;
@@ -22,7 +27,10 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -35,24 +43,38 @@ public class LetterService {
     private final LetterThemeRepository letterThemeRepository;
     private final LetterFavoriteRepository letterFavoriteRepository;
     private final NotificationService notificationService;
+    private final UserSnapshotCache userSnapshotCache;
 
     // 즐겨찾기 여부 확인
     private boolean isLetterBookmarked(Long userId, Long letterId) {
         return letterFavoriteRepository.existsByUserIdAndLetterId(userId, letterId);
     }
 
-    // entity -> DTO로 변환
-    private LetterListResponse mapToLetterListResponse(Letter letter, Long currentUserId) {
-        boolean isBookmarked = isLetterBookmarked(currentUserId, letter.getId());
-        return LetterListResponse.fromEntity(letter, isBookmarked);
+    // 페이지 단위 프로젝션 -> DTO로 변환 (즐겨찾기 여부는 한 번의 IN 쿼리로 일괄 조회)
+    private Page<LetterListResponse> mapToLetterListResponses(Page<LetterSummary> letterPage, Long currentUserId) {
+        Set<Long> bookmarkedIds = findBookmarkedLetterIds(currentUserId, letterPage.getContent());
+        return letterPage.map(letter ->
+                LetterListResponse.from(letter, bookmarkedIds.contains(letter.letterId())));
+    }
+
+    // 현재 페이지에 포함된 편지들 중 즐겨찾기 된 편지 ID 집합
+    private Set<Long> findBookmarkedLetterIds(Long userId, List<LetterSummary> letters) {
+        if (letters.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        List<Long> letterIds = letters.stream()
+                .map(LetterSummary::letterId)
+                .toList();
+
+        return letterFavoriteRepository.findBookmarkedLetterIds(userId, letterIds);
     }
 
     // 편지 전송 (POST /api/letters)
     @Transactional
     public LetterSendResponse sendLetter(Long senderId, LetterSendRequest request) {
-        User sender = userRepository.findById(senderId)
-                .orElseThrow(() -> new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
-                        "발신자 ID를 찾을 수 없습니다: " + senderId));
+        // 발신자는 캐시된 요약(닉네임)과 참조 프록시만 사용 (캐시 적중 시 User 조회 없음)
+        UserSnapshot sender = userSnapshotCache.get(senderId);
         User receiver = userRepository.findById(request.receiverId())
                 .orElseThrow(() -> new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
                         "수신자 ID를 찾을 수 없습니다: " + request.receiverId()));
@@ -81,7 +103,7 @@ public class LetterService {
         }
 
         Letter letter = Letter.builder()
-                .sender(sender)
+                .sender(userRepository.getReferenceById(senderId))
                 .receiver(receiver)
                 .theme(theme)
                 .title(request.title())
@@ -95,7 +117,7 @@ public class LetterService {
             notificationService.notifyLetterReceived(
                     receiver,
                     savedLetter.getId(),
-                    sender.getNickname(),
+                    sender.nickname(),
                     savedLetter.getTitle()
             );
         } catch (Exception e) {
@@ -104,7 +126,7 @@ public class LetterService {
 
         return new LetterSendResponse(
                 savedLetter.getId(),
-                savedLetter.getSender().getNickname(),
+                sender.nickname(),
                 savedLetter.getReceiver().getNickname(),
                 savedLetter.getCreatedAt(),
                 "편지가 성공적으로 발송되었습니다.",
@@ -115,8 +137,8 @@ public class LetterService {
     // 받은 편지 모아보기(GET /api/letters/received)
     @Transactional(readOnly = true)
     public PageResponse<LetterListResponse> getReceivedLetters(Long userId, Pageable pageable) {
-        Page<Letter> letterPage = letterRepository.findByReceiverIdAndIsDeletedByReceiverFalse(userId, pageable);
-        Page<LetterListResponse> responsePage = letterPage.map(letter -> mapToLetterListResponse(letter, userId));
+        Page<LetterSummary> letterPage = letterRepository.findReceivedLetterSummaries(userId, pageable);
+        Page<LetterListResponse> responsePage = mapToLetterListResponses(letterPage, userId);
 
         return PageResponse.from(responsePage);
     }
@@ -124,8 +146,8 @@ public class LetterService {
     // 보낸 편지 모아보기(GET /api/letters/sent)
     @Transactional(readOnly = true)
     public PageResponse<LetterListResponse> getSentLetters(Long userId, Pageable pageable){
-        Page<Letter> letterPage = letterRepository.findBySenderIdAndIsDeletedBySenderFalse(userId, pageable);
-        Page<LetterListResponse> responsePage = letterPage.map(letter -> mapToLetterListResponse(letter, userId));
+        Page<LetterSummary> letterPage = letterRepository.findSentLetterSummaries(userId, pageable);
+        Page<LetterListResponse> responsePage = mapToLetterListResponses(letterPage, userId);
 
         return PageResponse.from(responsePage);
     }
@@ -133,8 +155,8 @@ public class LetterService {
     // 즐겨찾기 한 편지 모아보기(GET /api/letters/bookmarked)
     @Transactional(readOnly = true)
     public PageResponse<LetterListResponse> getBookmarkedLetters(Long userId, Pageable pageable) {
-        Page<Letter> letterPage = letterFavoriteRepository.findBookmarkedLettersByUserId(userId, pageable);
-        Page<LetterListResponse> responsePage = letterPage.map(letter -> LetterListResponse.fromEntity(letter, true));
+        Page<LetterSummary> letterPage = letterFavoriteRepository.findBookmarkedLetterSummaries(userId, pageable);
+        Page<LetterListResponse> responsePage = letterPage.map(letter -> LetterListResponse.from(letter, true));
 
         return PageResponse.from(responsePage);
     }
@@ -148,12 +170,63 @@ public class LetterService {
                                 "상대 유저를 찾을 수 없습니다. userId=" + targetUserId)
                 );
 
-        Page<Letter> letterPage = letterRepository.findConversationLetters(currentUserId, targetUserId, pageable);
-        Page<LetterListResponse> responsePage = letterPage.map(letter -> mapToLetterListResponse(letter, currentUserId));
+        Page<LetterSummary> letterPage = letterRepository.findConversationLetterSummaries(currentUserId, targetUserId, pageable);
+        Page<LetterListResponse> responsePage = mapToLetterListResponses(letterPage, currentUserId);
 
         return PageResponse.from(responsePage);
     }
 
+    // 받은 편지 커서 조회(GET /api/letters/received?cursor=)
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LetterListResponse> getReceivedLettersByCursor(Long userId, String cursor, int size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = CursorPageResponse.clampSize(size);
+
+        List<LetterSummary> rows = letterRepository.findReceivedLetterSummariesBefore(
+                userId, pageCursor.createdAt(), pageCursor.id(), CursorPageResponse.lookAhead(pageSize));
+
+        return mapToLetterCursorResponse(rows, pageSize, userId);
+    }
+
+    // 보낸 편지 커서 조회(GET /api/letters/sent?cursor=)
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LetterListResponse> getSentLettersByCursor(Long userId, String cursor, int size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = CursorPageResponse.clampSize(size);
+
+        List<LetterSummary> rows = letterRepository.findSentLetterSummariesBefore(
+                userId, pageCursor.createdAt(), pageCursor.id(), CursorPageResponse.lookAhead(pageSize));
+
+        return mapToLetterCursorResponse(rows, pageSize, userId);
+    }
+
+    // 특정인과 주고받은 편지 커서 조회(GET /api/letters/conversation/{targetId}?cursor=)
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LetterListResponse> getConversationLettersByCursor(Long currentUserId, Long targetUserId, String cursor, int size) {
+        userRepository.findById(targetUserId)
+                .orElseThrow(() ->
+                        new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
+                                "상대 유저를 찾을 수 없습니다. userId=" + targetUserId)
+                );
+
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = CursorPageResponse.clampSize(size);
+
+        List<LetterSummary> rows = letterRepository.findConversationLetterSummariesBefore(
+                currentUserId, targetUserId, pageCursor.createdAt(), pageCursor.id(), CursorPageResponse.lookAhead(pageSize));
+
+        return mapToLetterCursorResponse(rows, pageSize, currentUserId);
+    }
+
+    // 커서 페이지 프로젝션 -> DTO로 변환 (즐겨찾기 여부 일괄 조회)
+    private CursorPageResponse<LetterListResponse> mapToLetterCursorResponse(List<LetterSummary> rows, int pageSize, Long currentUserId) {
+        CursorPageResponse<LetterSummary> page = CursorPageResponse.of(
+                rows, pageSize, letter -> new PageCursor(letter.sentAt(), letter.letterId()));
+
+        Set<Long> bookmarkedIds = findBookmarkedLetterIds(currentUserId, page.data());
+        return page.map(letter -> LetterListResponse.from(letter, bookmarkedIds.contains(letter.letterId())));
+    }
+
     // 편지 상세 확인 및 읽음 처리(GET /api/letters/{letterId}
     @Transactional
     public LetterDetailResponse getLetterDetail(Long letterId, Long currentUserId) {
@@ -182,10 +255,6 @@ public class LetterService {
         Letter letter = letterRepository.findById(letterId)
                 .orElseThrow(() -> new CoreApiException(ErrorCode.LETTER_NOT_FOUND,
                         "편지를 찾을 수 없습니다. letterId=" + letterId));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
-                        "사용자를 찾을 수 없습니다. userId=" + userId));
-
         boolean isSender = letter.getSender().getId().equals(userId);
         boolean isReceiver = letter.getReceiver().getId().equals(userId);
 
@@ -201,7 +270,7 @@ public class LetterService {
             return false;
         } else {
             LetterFavorite favorite = LetterFavorite.builder()
-                    .user(user)
+                    .user(userRepository.getReferenceById(userId)) // 인증된 사용자이므로 존재 확인 없이 참조만 사용
                     .letter(letter)
                     .build();
             letterFavoriteRepository.save(favorite);
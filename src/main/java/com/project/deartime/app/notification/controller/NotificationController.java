@@ -1,10 +1,13 @@
 package com.project.deartime.app.notification.controller;
 
+import com.project.deartime.app.notification.dto.NotificationReadRequest;
 import com.project.deartime.app.notification.dto.NotificationResponse;
 import com.project.deartime.app.notification.service.NotificationService;
 import com.project.deartime.global.dto.ApiResponseTemplete;
+import com.project.deartime.global.dto.CursorPageResponse;
 import com.project.deartime.global.dto.PageResponse;
 import com.project.deartime.global.exception.SuccessCode;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -40,6 +43,27 @@ public class NotificationController {
         );
     }
 
+    /**
+     * 알림 목록 커서 조회 (GET /api/notifications?cursor=)
+     * - 최신순 정렬, COUNT 쿼리 없이 다음 커서만 반환
+     * - 페이지 조회와 달리 읽지 않은 알림을 먼저 보여주지 않음 (읽지 않은 알림은 unread-count 로 확인)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponseTemplete<CursorPageResponse<NotificationResponse>>> getNotificationsByCursor(
+            @AuthenticationPrincipal String userId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userIdLong = Long.parseLong(userId);
+        CursorPageResponse<NotificationResponse> response =
+                notificationService.getNotificationsByCursor(userIdLong, cursor, size);
+
+        return ApiResponseTemplete.success(
+                SuccessCode.NOTIFICATION_LIST_SUCCESS,
+                response
+        );
+    }
+
     /**
      * 읽지 않은 알림 개수 조회 (GET /api/notifications/unread-count)
      */
@@ -76,6 +100,45 @@ public class NotificationController {
         );
     }
 
+    /**
+     * 알림 전체 읽음 처리 (PATCH /api/notifications/read-all)
+     */
+    @PatchMapping("/read-all")
+    public ResponseEntity<ApiResponseTemplete<Map<String, Integer>>> markAllAsRead(
+            @AuthenticationPrincipal String userId
+    ) {
+        Long userIdLong = Long.parseLong(userId);
+        int updatedCount = notificationService.markAllAsRead(userIdLong);
+
+        Map<String, Integer> response = new HashMap<>();
+        response.put("updatedCount", updatedCount);
+
+        return ApiResponseTemplete.success(
+                SuccessCode.NOTIFICATION_READ_SUCCESS,
+                response
+        );
+    }
+
+    /**
+     * 선택한 알림 읽음 처리 (PATCH /api/notifications/read)
+     */
+    @PatchMapping("/read")
+    public ResponseEntity<ApiResponseTemplete<Map<String, Integer>>> markSelectedAsRead(
+            @AuthenticationPrincipal String userId,
+            @RequestBody @Valid NotificationReadRequest request
+    ) {
+        Long userIdLong = Long.parseLong(userId);
+        int updatedCount = notificationService.markAsReadByIds(request.notificationIds(), userIdLong);
+
+        Map<String, Integer> response = new HashMap<>();
+        response.put("updatedCount", updatedCount);
+
+        return ApiResponseTemplete.success(
+                SuccessCode.NOTIFICATION_READ_SUCCESS,
+                response
+        );
+    }
+
     /**
      * 알람 내역 전체 삭제 (DELETE /api/notifications)
      */
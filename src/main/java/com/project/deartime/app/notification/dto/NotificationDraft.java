@@ -0,0 +1,12 @@
+package com.project.deartime.app.notification.dto;
+
+/**
+ * 일괄 저장할 알림 한 건 (수신자 엔티티 없이 ID만 사용)
+ */
+public record NotificationDraft(
+        Long receiverId,
+        String senderNickname,
+        String contentTitle,
+        Long targetId
+) {
+}
@@ -0,0 +1,13 @@
+package com.project.deartime.app.notification.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record NotificationReadRequest(
+        @NotEmpty(message = "읽음 처리할 알림 ID를 입력해주세요.")
+        @Size(max = 100, message = "한 번에 최대 100개의 알림만 읽음 처리할 수 있습니다.")
+        List<Long> notificationIds
+) {
+}
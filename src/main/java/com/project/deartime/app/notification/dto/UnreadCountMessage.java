@@ -0,0 +1,16 @@
+package com.project.deartime.app.notification.dto;
+
+/**
+ * 읽지 않은 알림 개수 웹소켓 메시지 (/sub/notifications/{userId})
+ * - 알림 메시지(NotificationResponse)와 같은 채널을 사용하므로 type 으로 구분한다.
+ */
+public record UnreadCountMessage(
+        String type,
+        long unreadCount
+) {
+    public static final String TYPE = "UNREAD_COUNT";
+
+    public static UnreadCountMessage of(long unreadCount) {
+        return new UnreadCountMessage(TYPE, unreadCount);
+    }
+}
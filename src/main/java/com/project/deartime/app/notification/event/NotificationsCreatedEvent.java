@@ -0,0 +1,11 @@
+package com.project.deartime.app.notification.event;
+
+import java.util.List;
+
+/**
+ * 알림 생성 이벤트 (커밋 이후 outbox 디스패처가 전송)
+ */
+public record NotificationsCreatedEvent(
+        List<Long> outboxIds
+) {
+}
@@ -0,0 +1,82 @@
+package com.project.deartime.app.notification.repository;
+
+import com.project.deartime.app.notification.domain.NotificationType;
+import com.project.deartime.app.notification.dto.NotificationDraft;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 알림 일괄 저장용 JDBC 리포지토리
+ * - Notification ID가 IDENTITY 전략이라 JPA saveAll은 건별 INSERT가 발생하므로,
+ *   배열 파라미터를 unnest 하여 한 번의 INSERT ... RETURNING 으로 저장한다.
+ * - 같은 문장에서 notification_outbox 행도 함께 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private static final String BULK_INSERT_SQL =
+            "WITH inserted AS ( " +
+            "    INSERT INTO notification " +
+            "    (user_id, type, content, target_id, content_title, sender_nickname, is_read, created_at) " +
+            "    SELECT t.user_id, ?, t.content, t.target_id, t.content_title, t.sender_nickname, false, ? " +
+            "    FROM unnest(?::bigint[], ?::text[], ?::bigint[], ?::text[], ?::text[]) " +
+            "    AS t(user_id, content, target_id, content_title, sender_nickname) " +
+            "    RETURNING id, user_id, created_at " +
+            ") " +
+            "INSERT INTO notification_outbox (notification_id, user_id, created_at) " +
+            "SELECT id, user_id, created_at FROM inserted " +
+            "RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 유형의 알림과 outbox 행을 한 번의 쿼리로 저장
+     * @param contentBuilder 알림 메시지 생성 함수
+     * @return 저장된 outbox ID 목록
+     */
+    public List<Long> insertAll(NotificationType type,
+                                List<NotificationDraft> drafts,
+                                Function<NotificationDraft, String> contentBuilder) {
+        if (drafts.isEmpty()) {
+            return List.of();
+        }
+
+        int size = drafts.size();
+        Long[] userIds = new Long[size];
+        String[] contents = new String[size];
+        Long[] targetIds = new Long[size];
+        String[] contentTitles = new String[size];
+        String[] senderNicknames = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            NotificationDraft draft = drafts.get(i);
+            userIds[i] = draft.receiverId();
+            contents[i] = contentBuilder.apply(draft);
+            targetIds[i] = draft.targetId();
+            contentTitles[i] = draft.contentTitle();
+            senderNicknames[i] = draft.senderNickname();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(BULK_INSERT_SQL);
+            ps.setString(1, type.name());
+            ps.setTimestamp(2, now);
+            ps.setArray(3, con.createArrayOf("bigint", userIds));
+            ps.setArray(4, con.createArrayOf("text", contents));
+            ps.setArray(5, con.createArrayOf("bigint", targetIds));
+            ps.setArray(6, con.createArrayOf("text", contentTitles));
+            ps.setArray(7, con.createArrayOf("text", senderNicknames));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong("id"));
+    }
+}
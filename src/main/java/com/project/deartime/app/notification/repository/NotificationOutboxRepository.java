@@ -0,0 +1,53 @@
+package com.project.deartime.app.notification.repository;
+
+import com.project.deartime.app.domain.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 미전송 outbox 선점 및 전송 완료 처리 (한 번의 UPDATE)
+     * - 다른 디스패처/노드가 처리 중인 행은 SKIP LOCKED 로 건너뛴다.
+     * - 호출하는 트랜잭션이 롤백되면 다시 미전송 상태가 된다.
+     * @return 선점한 알림 ID 목록
+     */
+    @Query(value = "UPDATE notification_outbox SET published_at = now() " +
+                   "WHERE id IN ( " +
+                   "    SELECT id FROM notification_outbox " +
+                   "    WHERE id IN (:ids) AND published_at IS NULL " +
+                   "    FOR UPDATE SKIP LOCKED " +
+                   ") " +
+                   "RETURNING notification_id",
+           nativeQuery = true)
+    List<Long> claimUnpublished(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 커밋 후 전송이 누락된 outbox 조회 (복구 poller 용)
+     */
+    @Query(value = "SELECT id FROM notification_outbox " +
+                   "WHERE published_at IS NULL AND created_at < :before " +
+                   "ORDER BY id LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findUnpublishedIdsBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    /**
+     * 미전송 outbox 개수 (지표용)
+     */
+    long countByPublishedAtIsNull();
+
+    /**
+     * 전송 완료 후 보관 기간이 지난 outbox 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
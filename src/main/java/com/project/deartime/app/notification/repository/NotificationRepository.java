@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,12 +22,48 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.isRead ASC, n.createdAt DESC")
     Page<Notification> findByUserIdOrderByIsReadAscCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
 
+    /**
+     * 사용자의 알림 커서 조회 (최신순, COUNT 쿼리 없음)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId " +
+           "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findByUserIdBefore(@Param("userId") Long userId,
+                                          @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
     /**
      * 사용자의 읽지 않은 알림 개수 조회
      */
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
     long countUnreadByUserId(@Param("userId") Long userId);
 
+    /**
+     * 사용자의 읽지 않은 알림 전체 읽음 처리
+     * @return 읽음 처리된 알림 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+
+    /**
+     * 선택한 알림 읽음 처리 (본인 알림만, 이미 읽은 알림 제외)
+     * @return 읽음 처리된 알림 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+           "WHERE n.user.id = :userId AND n.id IN :notificationIds AND n.isRead = false")
+    int markAsReadByIds(@Param("userId") Long userId, @Param("notificationIds") Collection<Long> notificationIds);
+
+    /**
+     * 사용자의 읽지 않은 알림 삭제
+     * @return 삭제된 알림 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    int deleteUnreadByUserId(@Param("userId") Long userId);
+
     /**
      * 사용자의 모든 알림 삭제
      */
@@ -0,0 +1,82 @@
+package com.project.deartime.app.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 (notification_unread_count) JDBC 리포지토리
+ * - 증감 후 값을 RETURNING 으로 받아, 다시 조회하지 않고 그대로 웹소켓으로 전송한다.
+ * - 여러 사용자를 갱신할 때는 user_id 순으로 갱신해 동시 트랜잭션 간 행 잠금 순서를 맞춘다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UnreadNotificationCountRepository {
+
+    private static final String FIND_SQL =
+            "SELECT unread_count FROM notification_unread_count WHERE user_id = ?";
+
+    private static final String INCREMENT_ALL_SQL =
+            "INSERT INTO notification_unread_count (user_id, unread_count) " +
+            "SELECT t.user_id, t.delta " +
+            "FROM unnest(?::bigint[], ?::int[]) AS t(user_id, delta) " +
+            "ORDER BY t.user_id " +
+            "ON CONFLICT (user_id) " +
+            "DO UPDATE SET unread_count = notification_unread_count.unread_count + EXCLUDED.unread_count " +
+            "RETURNING user_id, unread_count";
+
+    // 집계 이전 데이터 등으로 음수가 되지 않도록 0 에서 멈춤
+    private static final String DECREMENT_SQL =
+            "UPDATE notification_unread_count " +
+            "SET unread_count = GREATEST(unread_count - ?, 0) " +
+            "WHERE user_id = ? " +
+            "RETURNING unread_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 읽지 않은 알림 개수 조회 (행이 없으면 0)
+     */
+    public long find(Long userId) {
+        List<Long> counts = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> rs.getLong("unread_count"), userId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    /**
+     * 사용자별 개수 증가 (행이 없으면 생성, 한 번의 upsert)
+     * @return 사용자별 증가 후 개수
+     */
+    public Map<Long, Long> incrementAll(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return Map.of();
+        }
+
+        Long[] userIds = deltas.keySet().toArray(Long[]::new);
+        Integer[] counts = deltas.values().toArray(Integer[]::new);
+
+        Map<Long, Long> result = new LinkedHashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INCREMENT_ALL_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", userIds));
+            ps.setArray(2, con.createArrayOf("integer", counts));
+            return ps;
+        }, rs -> {
+            result.put(rs.getLong("user_id"), rs.getLong("unread_count"));
+        });
+        return result;
+    }
+
+    /**
+     * 개수 감소
+     * @return 감소 후 개수 (행이 없으면 0)
+     */
+    public long decrement(Long userId, int delta) {
+        List<Long> counts = jdbcTemplate.query(DECREMENT_SQL, (rs, rowNum) -> rs.getLong("unread_count"), delta, userId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+}
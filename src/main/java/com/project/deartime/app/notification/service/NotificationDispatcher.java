@@ -0,0 +1,162 @@
+package com.project.deartime.app.notification.service;
+
+import com.project.deartime.app.domain.Notification;
+import com.project.deartime.app.notification.dto.NotificationResponse;
+import com.project.deartime.app.notification.event.NotificationsCreatedEvent;
+import com.project.deartime.app.notification.repository.NotificationOutboxRepository;
+import com.project.deartime.app.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 outbox 디스패처
+ * - 알림을 저장한 트랜잭션이 커밋된 뒤 비동기로 outbox 를 선점하고 웹소켓으로 전송한다.
+ * - 커밋 후 전송이 누락된 행(서버 종료, 전송 스레드 오류 등)은 복구 poller 가 다시 전송한다.
+ * - 알림은 한 건씩 NotificationResponse 로 전송한다. (클라이언트는 메시지 하나를 알림 한 건으로 처리하므로 묶어 보내지 않음)
+ *   (읽지 않은 알림 개수는 알림을 저장한 트랜잭션에서 UnreadNotificationCounter 가 증가시키고 커밋 이후 전송)
+ * - 전송이 실패하면 선점 트랜잭션을 롤백해 outbox 를 미전송 상태로 되돌린다. (복구 poller 가 재전송, 중복 전송 가능)
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private static final String NOTIFICATION_DESTINATION = "/sub/notifications/";
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer publishLatency;
+
+    // 미전송 outbox 개수 (복구 poller 실행 시 갱신)
+    private final AtomicLong outboxDepth = new AtomicLong();
+
+    @Value("${notification.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${notification.outbox.recovery-delay:PT30S}")
+    private Duration recoveryDelay;
+
+    @Value("${notification.outbox.retention:P1D}")
+    private Duration retention;
+
+    public NotificationDispatcher(NotificationOutboxRepository notificationOutboxRepository,
+                                  NotificationRepository notificationRepository,
+                                  SimpMessagingTemplate messagingTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.publishLatency = Timer.builder("notification.outbox.publish.latency")
+                .description("알림 저장부터 웹소켓 전송까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("notification.outbox.depth", outboxDepth, AtomicLong::get)
+                .description("전송되지 않은 알림 outbox 개수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림 저장 트랜잭션 커밋 이후 전송 (요청 스레드와 분리)
+     */
+    @Async
+    @TransactionalEventListener
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        publish(event.outboxIds());
+    }
+
+    /**
+     * 전송이 누락된 outbox 복구
+     * - 커밋 직후의 비동기 전송과 겹치지 않도록 recovery-delay 가 지난 행만 대상으로 한다.
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval:PT10S}")
+    public void recoverUnpublished() {
+        LocalDateTime before = LocalDateTime.now().minus(recoveryDelay);
+
+        while (true) {
+            List<Long> outboxIds = notificationOutboxRepository.findUnpublishedIdsBefore(before, batchSize);
+            if (outboxIds.isEmpty()) {
+                break;
+            }
+
+            log.warn("[NOTIFICATION_OUTBOX] 미전송 알림 재전송. count={}", outboxIds.size());
+            if (publish(outboxIds) == 0 || outboxIds.size() < batchSize) {
+                break;
+            }
+        }
+
+        outboxDepth.set(notificationOutboxRepository.countByPublishedAtIsNull());
+    }
+
+    /**
+     * 보관 기간이 지난 전송 완료 outbox 정리 (매 시 정각)
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void deletePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                notificationOutboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        log.debug("[NOTIFICATION_OUTBOX] 전송 완료 outbox 정리. count={}", deleted);
+    }
+
+    /**
+     * outbox 선점(전송 완료 처리) 후 웹소켓 전송
+     * - 전송 중 예외가 발생하면 트랜잭션이 롤백되어 published_at 이 다시 NULL 이 된다.
+     * @return 전송한 알림 수 (실패 시 0)
+     */
+    public int publish(Collection<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            Integer published = transactionTemplate.execute(status -> {
+                List<Long> notificationIds = notificationOutboxRepository.claimUnpublished(outboxIds);
+                if (notificationIds.isEmpty()) {
+                    return 0;
+                }
+
+                // 삭제된 알림은 조회되지 않으므로 전송 대상에서 제외됨
+                List<Notification> notifications = notificationRepository.findAllById(notificationIds);
+
+                notifications.forEach(notification ->
+                        sendWebSocketNotification(notification.getUser().getId(), NotificationResponse.from(notification)));
+
+                LocalDateTime now = LocalDateTime.now();
+                notifications.forEach(notification ->
+                        publishLatency.record(Duration.between(notification.getCreatedAt(), now)));
+
+                return notifications.size();
+            });
+
+            return (published != null) ? published : 0;
+        } catch (Exception e) {
+            log.error("[NOTIFICATION_OUTBOX] 알림 전송 실패, 미전송 상태로 롤백. outboxIds={}", outboxIds, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 웹소켓으로 알림 한 건 전송
+     * - 실패 시 예외를 그대로 던져 outbox 선점 트랜잭션을 롤백한다.
+     */
+    private void sendWebSocketNotification(Long userId, NotificationResponse notification) {
+        messagingTemplate.convertAndSend(NOTIFICATION_DESTINATION + userId, notification);
+        log.debug("[WEBSOCKET] 알림 전송 성공. userId={}, notificationId={}", userId, notification.getId());
+    }
+}
@@ -1,21 +1,32 @@
 package com.project.deartime.app.notification.service;
 
 import com.project.deartime.app.domain.Notification;
+import com.project.deartime.app.domain.NotificationOutbox;
 import com.project.deartime.app.domain.User;
 import com.project.deartime.app.notification.domain.NotificationType;
+import com.project.deartime.app.notification.dto.NotificationDraft;
 import com.project.deartime.app.notification.dto.NotificationResponse;
+import com.project.deartime.app.notification.event.NotificationsCreatedEvent;
+import com.project.deartime.app.notification.repository.NotificationBulkRepository;
+import com.project.deartime.app.notification.repository.NotificationOutboxRepository;
 import com.project.deartime.app.notification.repository.NotificationRepository;
+import com.project.deartime.global.dto.CursorPageResponse;
+import com.project.deartime.global.dto.PageCursor;
 import com.project.deartime.global.dto.PageResponse;
 import com.project.deartime.global.exception.CoreApiException;
 import com.project.deartime.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -23,12 +34,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
-
-    private static final String NOTIFICATION_DESTINATION = "/sub/notifications/";
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 알림 생성 및 웹소켓 전송
+     * - 알림과 outbox 를 함께 저장하고, 전송은 커밋 이후 NotificationDispatcher 가 비동기로 처리한다.
      */
     @Transactional
     public NotificationResponse createAndSendNotification(
@@ -53,28 +66,41 @@ public class NotificationService {
         Notification savedNotification = notificationRepository.save(notification);
         NotificationResponse response = NotificationResponse.from(savedNotification);
 
-        // 웹소켓으로 실시간 알림 전송
-        sendWebSocketNotification(receiver.getId(), response);
+        NotificationOutbox outbox = notificationOutboxRepository.save(NotificationOutbox.builder()
+                .notificationId(savedNotification.getId())
+                .userId(receiver.getId())
+                .build());
+
+        unreadNotificationCounter.increment(receiver.getId(), 1);
+
+        // 커밋 이후 웹소켓으로 실시간 알림 전송
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(List.of(outbox.getId())));
 
-        log.info("[NOTIFICATION] 알림 생성 및 전송 완료. userId={}, type={}, targetId={}",
+        log.info("[NOTIFICATION] 알림 생성 완료. userId={}, type={}, targetId={}",
                 receiver.getId(), type, targetId);
 
         return response;
     }
 
     /**
-     * 웹소켓으로 알림 전송
+     * 같은 유형의 알림 일괄 생성 및 웹소켓 전송
+     * - 알림과 outbox 를 한 번의 INSERT로 저장하고, 커밋 이후 사용자별로 묶어서 전송한다. (스케줄러 대량 처리용)
      */
-    private void sendWebSocketNotification(Long userId, NotificationResponse notification) {
-        try {
-            messagingTemplate.convertAndSend(
-                    NOTIFICATION_DESTINATION + userId,
-                    notification
-            );
-            log.debug("[WEBSOCKET] 알림 전송 성공. userId={}", userId);
-        } catch (Exception e) {
-            log.error("[WEBSOCKET] 알림 전송 실패. userId={}", userId, e);
+    @Transactional
+    public int createAndSendNotifications(NotificationType type, List<NotificationDraft> drafts) {
+        List<Long> outboxIds = notificationBulkRepository.insertAll(
+                type, drafts, draft -> buildNotificationContent(type, draft.senderNickname()));
+
+        if (!outboxIds.isEmpty()) {
+            unreadNotificationCounter.incrementAll(drafts.stream()
+                    .collect(Collectors.groupingBy(NotificationDraft::receiverId, TreeMap::new,
+                            Collectors.summingInt(draft -> 1))));
+            eventPublisher.publishEvent(new NotificationsCreatedEvent(outboxIds));
         }
+
+        log.info("[NOTIFICATION] 알림 일괄 생성 완료. type={}, count={}", type, outboxIds.size());
+
+        return outboxIds.size();
     }
 
     /**
@@ -129,6 +155,14 @@ public class NotificationService {
         );
     }
 
+    /**
+     * 타임캡슐 오픈 알림 일괄 발송 (스케줄러용)
+     */
+    @Transactional
+    public int notifyCapsulesOpened(List<NotificationDraft> drafts) {
+        return createAndSendNotifications(NotificationType.CAPSULE_OPENED, drafts);
+    }
+
     /**
      * 친구 요청 알림
      */
@@ -171,14 +205,32 @@ public class NotificationService {
     }
 
     /**
-     * 읽지 않은 알림 개수 조회
+     * 사용자의 알림 목록 커서 조회 (최신순)
+     * - 읽음 여부와 관계없이 (createdAt, id) 내림차순이다. 읽음 처리로 순서가 바뀌면 커서가 어긋나므로
+     *   페이지 조회(getNotifications)의 "읽지 않은 알림 우선" 정렬은 적용하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<NotificationResponse> getNotificationsByCursor(Long userId, String cursor, int size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        int pageSize = CursorPageResponse.clampSize(size);
+
+        List<Notification> rows = notificationRepository.findByUserIdBefore(
+                userId, pageCursor.createdAt(), pageCursor.id(), CursorPageResponse.lookAhead(pageSize));
+
+        return CursorPageResponse.of(rows, pageSize, n -> new PageCursor(n.getCreatedAt(), n.getId()))
+                .map(NotificationResponse::from);
+    }
+
+    /**
+     * 읽지 않은 알림 개수 조회 (notification_unread_count PK 조회)
      */
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return unreadNotificationCounter.get(userId);
     }
 
     /**
      * 특정 알림 읽음 처리
+     * - 읽지 않은 알림만 조건부 UPDATE 하므로, 같은 알림을 동시에 읽어도 개수는 한 번만 줄어든다.
      */
     @Transactional
     public NotificationResponse markAsRead(Long notificationId, Long userId) {
@@ -192,17 +244,52 @@ public class NotificationService {
                     "해당 알림에 접근할 권한이 없습니다.");
         }
 
-        notification.markAsRead();
+        if (!notification.getIsRead()) {
+            int updatedCount = notificationRepository.markAsReadByIds(userId, List.of(notificationId));
+            unreadNotificationCounter.decrement(userId, updatedCount);
+            // UPDATE 이후 영속성 컨텍스트가 비워졌으므로 응답용 값만 변경
+            notification.markAsRead();
+        }
 
         return NotificationResponse.from(notification);
     }
 
+    /**
+     * 읽지 않은 알림 전체 읽음 처리
+     * - 개수는 0 으로 덮어쓰지 않고 실제로 읽음 처리된 수만큼 뺀다.
+     *   (아직 커밋되지 않은 다른 트랜잭션의 새 알림은 UPDATE 대상이 아니므로 그 증가분은 남아야 함)
+     * @return 읽음 처리된 알림 수
+     */
+    @Transactional
+    public int markAllAsRead(Long userId) {
+        int updatedCount = notificationRepository.markAllAsReadByUserId(userId);
+        unreadNotificationCounter.decrement(userId, updatedCount);
+
+        log.info("[NOTIFICATION] 전체 읽음 처리. userId={}, count={}", userId, updatedCount);
+        return updatedCount;
+    }
+
+    /**
+     * 선택한 알림 읽음 처리
+     * - 다른 사용자의 알림이나 이미 읽은 알림은 개수에 포함되지 않는다.
+     * @return 읽음 처리된 알림 수
+     */
+    @Transactional
+    public int markAsReadByIds(List<Long> notificationIds, Long userId) {
+        int updatedCount = notificationRepository.markAsReadByIds(userId, notificationIds);
+        unreadNotificationCounter.decrement(userId, updatedCount);
+        return updatedCount;
+    }
+
     /**
      * 사용자의 모든 알림 삭제
+     * - 읽지 않은 알림을 먼저 삭제해 그 수만큼 개수를 뺀다. (전체 읽음 처리와 같은 이유로 0 으로 덮어쓰지 않음)
      */
     @Transactional
     public void deleteAllNotifications(Long userId) {
+        int deletedUnreadCount = notificationRepository.deleteUnreadByUserId(userId);
         notificationRepository.deleteAllByUserId(userId);
+        unreadNotificationCounter.decrement(userId, deletedUnreadCount);
         log.info("[NOTIFICATION] 모든 알림 삭제. userId={}", userId);
     }
 }
@@ -0,0 +1,85 @@
+package com.project.deartime.app.notification.service;
+
+import com.project.deartime.app.notification.dto.UnreadCountMessage;
+import com.project.deartime.app.notification.repository.UnreadNotificationCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 개수
+ * - 개수는 notification_unread_count 에 비정규화해 두고, 알림 생성/읽음/삭제 트랜잭션에서 함께 증감한다.
+ *   배지 조회는 PK 조회 한 번이며 notification 을 COUNT 하지 않는다.
+ * - 노드별 캐시가 아니라 DB 행이므로 여러 노드에서 알림 생성/읽음이 섞여도 개수가 어긋나지 않는다.
+ * - 증감 결과(UPDATE ... RETURNING)를 트랜잭션 커밋 이후 웹소켓으로 전송한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final String NOTIFICATION_DESTINATION = "/sub/notifications/";
+
+    private final UnreadNotificationCountRepository unreadNotificationCountRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * 읽지 않은 알림 개수 조회
+     */
+    public long get(Long userId) {
+        return unreadNotificationCountRepository.find(userId);
+    }
+
+    /**
+     * 알림 생성 후 개수 증가 및 전송 (커밋 이후)
+     */
+    public void increment(Long userId, int delta) {
+        incrementAll(Map.of(userId, delta));
+    }
+
+    /**
+     * 알림 일괄 생성 후 사용자별 개수 증가 및 전송 (커밋 이후)
+     */
+    public void incrementAll(Map<Long, Integer> deltas) {
+        Map<Long, Long> counts = unreadNotificationCountRepository.incrementAll(deltas);
+        afterCommit(() -> counts.forEach(this::push));
+    }
+
+    /**
+     * 알림 읽음/삭제 후 개수 감소 및 전송 (커밋 이후)
+     * @param delta 실제로 읽음 처리되거나 삭제된 읽지 않은 알림 수
+     */
+    public void decrement(Long userId, int delta) {
+        if (delta <= 0) {
+            return;
+        }
+        long count = unreadNotificationCountRepository.decrement(userId, delta);
+        afterCommit(() -> push(userId, count));
+    }
+
+    private void push(Long userId, long count) {
+        try {
+            messagingTemplate.convertAndSend(NOTIFICATION_DESTINATION + userId, UnreadCountMessage.of(count));
+        } catch (Exception e) {
+            log.error("[WEBSOCKET] 읽지 않은 알림 개수 전송 실패. userId={}", userId, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,25 +1,62 @@
 package com.project.deartime.app.service;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.project.deartime.app.storage.dto.ImageBlobAcquisition;
+import com.project.deartime.app.storage.service.ImageBlobStore;
+import com.project.deartime.app.upload.dto.PresignedUploadResponse;
 import com.project.deartime.global.exception.CoreApiException;
 import com.project.deartime.global.exception.ErrorCode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -27,10 +64,16 @@ import java.util.UUID;
 public class S3Service {
 
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
+    private final MeterRegistry meterRegistry;
+    private final ImageBlobStore imageBlobStore;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${cloud.aws.s3.multipart-threshold:5MB}")
+    private DataSize multipartThreshold;
+
     /** 허용 이미지 MIME 타입 */
     private static final Set<String> ALLOWED_IMAGE_TYPES = Set.of(
             "image/jpeg",
@@ -40,26 +83,65 @@ public class S3Service {
     /** 최대 파일 크기 (10MB) */
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
 
+    /** 내용 기준 중복 제거 객체 폴더 */
+    private static final String BLOB_FOLDER = "images";
+
+    /** presigned 업로드 URL 유효 시간 */
+    private static final Duration PRESIGNED_URL_EXPIRATION = Duration.ofMinutes(10);
+
+    /** EXIF 추출 시 범위 조회할 앞부분 크기 (JPEG APP1 최대 64KB + 여유) */
+    private static final long HEADER_RANGE_BYTES = 128 * 1024;
+
     /**
      * 파일 업로드
+     * - 내용의 SHA-256 으로 중복을 제거한다. 같은 내용이 이미 있으면 업로드하지 않고 기존 객체의 참조 수만 늘린다.
+     *   (중복 제거 객체는 폴더와 무관하게 images/{sha256}.{ext} 에 저장, folder 는 로그용)
+     * - multipart-threshold 이상이면 임시 파일로 옮긴 뒤 TransferManager 로 파트를 병렬 업로드
+     * - 그보다 작으면 단일 putObject (재시도 시 스트림을 되감을 수 있도록 파일 크기만큼 read limit 지정)
+     * - 일시적 오류는 S3 클라이언트의 지수 백오프 재시도 정책으로 처리 (S3Config)
      */
     public String uploadFile(MultipartFile file, String folder) {
         validateImageFile(file);
 
-        String fileName = createFileName(file.getOriginalFilename(), folder);
+        String sha256 = hashContent(file);
+        String ext = extractExt(file.getOriginalFilename());
+        String candidateKey = BLOB_FOLDER + "/" + sha256 + "." + ext;
+        // 같은 내용의 객체가 삭제 중이면 이전 키와 겹치지 않는 새 키로 업로드
+        String revivedKey = BLOB_FOLDER + "/" + sha256 + "-" + UUID.randomUUID() + "." + ext;
+
+        ImageBlobAcquisition blob = imageBlobStore.acquire(
+                sha256, candidateKey, revivedKey, file.getContentType(), file.getSize());
+        String fileName = blob.getObjectKey();
+
+        // 기존 객체 재사용 (먼저 등록한 쪽의 업로드가 실패해 객체가 없으면 직접 업로드)
+        if (!blob.getInserted() && amazonS3.doesObjectExist(bucket, fileName)) {
+            meterRegistry.counter("s3.upload.deduplicated").increment();
+            log.info("[S3 UPLOAD] 같은 내용의 파일 재사용. fileName={}, folder={}", fileName, folder);
+            return amazonS3.getUrl(bucket, fileName).toString();
+        }
 
         ObjectMetadata metadata = new ObjectMetadata();
         metadata.setContentLength(file.getSize());
         metadata.setContentType(file.getContentType());
 
-        try (InputStream inputStream = file.getInputStream()) {
-            amazonS3.putObject(
-                    new PutObjectRequest(bucket, fileName, inputStream, metadata)
-                            .withCannedAcl(CannedAccessControlList.PublicRead)
-            );
-            log.info("[S3 UPLOAD] 파일 업로드 성공. fileName={}", fileName);
+        boolean multipart = file.getSize() >= multipartThreshold.toBytes();
+        long startedAt = System.nanoTime();
+
+        try {
+            if (multipart) {
+                uploadMultipart(file, fileName, metadata);
+            } else {
+                uploadSingle(file, fileName, metadata);
+            }
+            recordUpload(multipart, "success", file.getSize(), startedAt);
+            log.info("[S3 UPLOAD] 파일 업로드 성공. fileName={}, folder={}, multipart={}", fileName, folder, multipart);
         } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            recordUpload(multipart, "failure", file.getSize(), startedAt);
             log.error("[S3 UPLOAD] 파일 업로드 실패. fileName={}", fileName, e);
+            imageBlobStore.cancel(fileName);
             throw new CoreApiException(
                     ErrorCode.S3_FILE_UPLOAD_FAILED,
                     e
@@ -70,43 +152,235 @@ public class S3Service {
     }
 
     /**
-     * 이미지 파일 검증
+     * 파일 내용 SHA-256 (작은 버퍼로 스트리밍하며 계산, 파일 전체를 메모리에 복사하지 않음)
      */
-    private void validateImageFile(MultipartFile file) {
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+    private String hashContent(MultipartFile file) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
 
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw new IllegalArgumentException("파일 크기는 최대 10MB까지 업로드할 수 있습니다.");
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new CoreApiException(ErrorCode.IO_ERROR, e);
         }
+        return HexFormat.of().formatHex(digest.digest());
+    }
 
-        String contentType = file.getContentType();
-        if (contentType == null || !ALLOWED_IMAGE_TYPES.contains(contentType)) {
-            throw new IllegalArgumentException("jpg, jpeg, png 형식의 이미지만 업로드할 수 있습니다.");
+    private void uploadSingle(MultipartFile file, String fileName, ObjectMetadata metadata) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            PutObjectRequest request = new PutObjectRequest(bucket, fileName, inputStream, metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead);
+            request.getRequestClientOptions().setReadLimit((int) file.getSize() + 1);
+            amazonS3.putObject(request);
+        }
+    }
+
+    private void uploadMultipart(MultipartFile file, String fileName, ObjectMetadata metadata)
+            throws IOException, InterruptedException {
+        // 파일 기반 요청이어야 파트별 병렬 업로드와 파트 단위 재시도가 가능
+        Path tempFile = Files.createTempFile("s3-upload-", ".tmp");
+        try {
+            file.transferTo(tempFile);
+
+            PutObjectRequest request = new PutObjectRequest(bucket, fileName, tempFile.toFile())
+                    .withMetadata(metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead);
+            transferManager.upload(request).waitForCompletion();
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
     }
 
     /**
-     * 파일 삭제
+     * 업로드 소요 시간 및 처리량(bytes/s) 기록
      */
-    public void deleteFile(String fileUrl) {
-        String fileName = extractFileNameFromUrl(fileUrl);
+    private void recordUpload(boolean multipart, String outcome, long bytes, long startedAt) {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        String mode = multipart ? "multipart" : "single";
 
+        Timer.builder("s3.upload")
+                .description("S3 업로드 소요 시간")
+                .tags("mode", mode, "outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if ("success".equals(outcome) && elapsedNanos > 0) {
+            DistributionSummary.builder("s3.upload.throughput")
+                    .description("S3 업로드 처리량")
+                    .baseUnit("bytes/s")
+                    .tags("mode", mode)
+                    .register(meterRegistry)
+                    .record(bytes * 1_000_000_000.0 / elapsedNanos);
+        }
+    }
+
+    /**
+     * 직접 업로드용 presigned PUT URL 발급
+     * - 키는 uploadFile 과 같은 규칙({folder}/{uuid}.{ext})으로 생성한다.
+     * - 클라이언트는 발급받은 Content-Type 과 같은 헤더로 PUT 해야 한다.
+     */
+    public PresignedUploadResponse createPresignedUpload(String originalFileName, String folder,
+                                                         String contentType, long contentLength) {
+        validateImage(contentType, contentLength);
+
+        String fileName = createFileName(originalFileName, folder);
+        Date expiration = Date.from(Instant.now().plus(PRESIGNED_URL_EXPIRATION));
+
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, fileName, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+        request.addRequestParameter("x-amz-acl", CannedAccessControlList.PublicRead.toString());
+
+        URL uploadUrl = amazonS3.generatePresignedUrl(request);
+
+        return new PresignedUploadResponse(
+                fileName,
+                uploadUrl.toString(),
+                LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault())
+        );
+    }
+
+    /**
+     * 직접 업로드된 파일 확인 (HEAD) 후 URL 반환
+     * - 키가 지정한 폴더 아래가 아니면 거부하고, 형식/크기가 맞지 않으면 IllegalArgumentException 을 던진다.
+     *   (잘못 올라간 파일은 호출한 쪽에서 S3 삭제 대기열에 등록)
+     */
+    public String confirmUpload(String key, String folder) {
+        if (key == null || !key.startsWith(folder + "/") || key.contains("..")) {
+            throw new CoreApiException(ErrorCode.INVALID_UPLOAD_KEY);
+        }
+
+        ObjectMetadata metadata;
         try {
-            amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileName));
-            log.info("[S3 DELETE] 파일 제거 성공. fileName={}", fileName);
-        } catch (Exception e) {
-            log.error(
-                    "[S3 DELETE] 파일 제거 실패. fileName={}, bucket={}",
-                    fileName,
-                    bucket,
-                    e
-            );
-            throw new CoreApiException(
-                    ErrorCode.S3_FILE_DELETE_FAILED,
-                    e
-            );
+            metadata = amazonS3.getObjectMetadata(bucket, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new CoreApiException(ErrorCode.UPLOADED_FILE_NOT_FOUND);
+            }
+            throw e;
+        }
+
+        validateImage(metadata.getContentType(), metadata.getContentLength());
+
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    /**
+     * 파일 앞부분만 범위 조회 (EXIF 헤더 추출용)
+     * - 범위(최대 128KB)를 끝까지 읽고 닫아 HTTP 커넥션을 풀에 반환한다.
+     *   (읽다 만 S3ObjectInputStream 을 닫으면 SDK 가 커넥션을 끊고 경고를 남김)
+     */
+    public byte[] readHeaderRange(String key) throws IOException {
+        GetObjectRequest request = new GetObjectRequest(bucket, key).withRange(0, HEADER_RANGE_BYTES - 1);
+        try (S3Object object = amazonS3.getObject(request);
+             InputStream content = object.getObjectContent()) {
+            return content.readAllBytes();
+        }
+    }
+
+    /**
+     * 업로드된 파일 전체 조회 (파생 이미지 생성용)
+     */
+    public InputStream openObject(String fileUrl) {
+        return amazonS3.getObject(bucket, extractFileNameFromUrl(fileUrl)).getObjectContent();
+    }
+
+    /**
+     * 원본 옆에 파생 이미지 업로드 후 URL 반환
+     * - 키는 원본 키에서 확장자를 뗀 뒤 _{variant}.jpg 를 붙여 만들므로, 다시 생성해도 같은 키를 덮어쓴다.
+     */
+    public String uploadVariant(String originalUrl, String variant, byte[] bytes) {
+        String originalKey = extractFileNameFromUrl(originalUrl);
+        int extPos = originalKey.lastIndexOf('.');
+        String baseKey = extPos > originalKey.lastIndexOf('/') ? originalKey.substring(0, extPos) : originalKey;
+        String variantKey = baseKey + "_" + variant + ".jpg";
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType("image/jpeg");
+
+        PutObjectRequest request = new PutObjectRequest(bucket, variantKey, new ByteArrayInputStream(bytes), metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
+        amazonS3.putObject(request);
+
+        return amazonS3.getUrl(bucket, variantKey).toString();
+    }
+
+    /**
+     * 여러 객체 일괄 삭제 (DeleteObjects, 최대 1000개)
+     * @return 삭제에 실패한 키와 실패 사유
+     */
+    public Map<String, String> deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                .withKeys(keys.toArray(String[]::new))
+                .withQuiet(true);
+
+        try {
+            amazonS3.deleteObjects(request);
+            return Map.of();
+        } catch (MultiObjectDeleteException e) {
+            // 일부 키만 실패한 경우 실패한 키만 반환
+            Map<String, String> failures = new HashMap<>();
+            for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+                failures.put(error.getKey(), error.getCode() + ": " + error.getMessage());
+            }
+            return failures;
+        }
+    }
+
+    /**
+     * 폴더(prefix) 아래 객체를 페이지(최대 1000개) 단위로 조회
+     */
+    public void forEachObjectPage(String prefix, Consumer<List<S3ObjectSummary>> pageConsumer) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucket)
+                .withPrefix(prefix);
+
+        ListObjectsV2Result result;
+        do {
+            result = amazonS3.listObjectsV2(request);
+            pageConsumer.accept(result.getObjectSummaries());
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+    }
+
+    public String getFileUrl(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    /**
+     * 파일 URL 에서 S3 Object Key 추출
+     */
+    public String getObjectKey(String fileUrl) {
+        return extractFileNameFromUrl(fileUrl);
+    }
+
+    /**
+     * 이미지 파일 검증
+     */
+    private void validateImageFile(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+
+        validateImage(file.getContentType(), file.getSize());
+    }
+
+    private void validateImage(String contentType, long size) {
+        if (size > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("파일 크기는 최대 10MB까지 업로드할 수 있습니다.");
+        }
+
+        if (contentType == null || !ALLOWED_IMAGE_TYPES.contains(contentType)) {
+            throw new IllegalArgumentException("jpg, jpeg, png 형식의 이미지만 업로드할 수 있습니다.");
         }
     }
 
@@ -133,6 +407,7 @@ public class S3Service {
     /**
      * URL에서 파일명(S3 Object Key) 추출
      * Virtual Hosted-Style URL 지원: https://{bucket}.s3.{region}.amazonaws.com/{key}
+     * Path-Style URL 지원 (cloud.aws.s3.endpoint 지정 시): http://{endpoint}/{bucket}/{key}
      */
     private String extractFileNameFromUrl(String fileUrl) {
         if (fileUrl == null || fileUrl.isBlank()) {
@@ -152,6 +427,12 @@ public class S3Service {
             // 맨 앞의 '/' 제거하여 S3 Object Key 추출
             String key = path.startsWith("/") ? path.substring(1) : path;
 
+            // Path-Style 이면 맨 앞의 버킷 이름 제거
+            String host = uri.getHost();
+            if ((host == null || !host.startsWith(bucket + ".")) && key.startsWith(bucket + "/")) {
+                key = key.substring(bucket.length() + 1);
+            }
+
             // URL 디코딩 (한글 파일명 등 처리)
             key = URLDecoder.decode(key, StandardCharsets.UTF_8);
 
@@ -0,0 +1,9 @@
+package com.project.deartime.app.storage.dto;
+
+/**
+ * 이미지 객체 참조 획득 결과 (inserted 가 true 면 새 객체이므로 업로드 필요)
+ */
+public interface ImageBlobAcquisition {
+    String getObjectKey();
+    Boolean getInserted();
+}
@@ -0,0 +1,10 @@
+package com.project.deartime.app.storage.dto;
+
+/**
+ * 삭제 워커가 선점한 대기열 행
+ */
+public interface S3DeletionClaim {
+    Long getId();
+    String getObjectKey();
+    Integer getAttempts();
+}
@@ -0,0 +1,92 @@
+package com.project.deartime.app.storage.repository;
+
+import com.project.deartime.app.domain.ImageBlob;
+import com.project.deartime.app.storage.dto.ImageBlobAcquisition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, Long> {
+
+    /**
+     * 같은 내용의 객체가 있으면 참조 수 증가, 없으면 새로 등록 (한 번의 upsert)
+     * - 삭제 워커가 삭제 표시(deleting_at)한 객체면 revivedKey 로 키를 바꿔 되살린다. (이전 키는 워커가 삭제)
+     * - xmax = 0 이면 이번 INSERT 로 생성된 행, 키가 revivedKey 면 되살린 행이며 둘 다 업로드가 필요하다.
+     */
+    @Query(value = "INSERT INTO image_blobs (sha256, object_key, content_type, size, ref_count, created_at, acquired_at) " +
+                   "VALUES (:sha256, :objectKey, :contentType, :size, 1, now(), now()) " +
+                   "ON CONFLICT (sha256) DO UPDATE SET " +
+                   "    ref_count = image_blobs.ref_count + 1, " +
+                   "    acquired_at = now(), " +
+                   "    object_key = CASE WHEN image_blobs.deleting_at IS NULL " +
+                   "                      THEN image_blobs.object_key ELSE :revivedKey END, " +
+                   "    deleting_at = NULL " +
+                   "RETURNING object_key AS \"objectKey\", (xmax = 0 OR object_key = :revivedKey) AS \"inserted\"",
+           nativeQuery = true)
+    ImageBlobAcquisition acquire(@Param("sha256") String sha256,
+                                 @Param("objectKey") String objectKey,
+                                 @Param("revivedKey") String revivedKey,
+                                 @Param("contentType") String contentType,
+                                 @Param("size") long size);
+
+    /**
+     * 참조 수 감소
+     * @return 감소 후 참조 수 (중복 제거 객체가 아니면 비어 있음)
+     */
+    @Query(value = "UPDATE image_blobs SET ref_count = ref_count - 1 " +
+                   "WHERE object_key = :objectKey AND ref_count > 0 " +
+                   "RETURNING ref_count",
+           nativeQuery = true)
+    Optional<Integer> release(@Param("objectKey") String objectKey);
+
+    /**
+     * 업로드에 실패한 새 객체 등록 취소
+     */
+    @Modifying
+    @Query("DELETE FROM ImageBlob b WHERE b.objectKey = :objectKey AND b.refCount = 0")
+    int deleteUnreferenced(@Param("objectKey") String objectKey);
+
+    /**
+     * 참조가 없는 객체 삭제 표시 (삭제 워커, S3 삭제 전 짧은 트랜잭션에서 실행)
+     * @return 삭제 표시한 키 (참조가 다시 생긴 객체는 제외)
+     */
+    @Query(value = "UPDATE image_blobs SET deleting_at = now() " +
+                   "WHERE object_key IN (:objectKeys) AND ref_count = 0 " +
+                   "RETURNING object_key",
+           nativeQuery = true)
+    List<String> markDeleting(@Param("objectKeys") Collection<String> objectKeys);
+
+    /**
+     * 참조 중인 객체 키 (삭제 대기열 등록 이후 다시 참조된 객체)
+     */
+    @Query("SELECT b.objectKey FROM ImageBlob b WHERE b.objectKey IN :objectKeys AND b.refCount > 0")
+    List<String> findReferencedObjectKeys(@Param("objectKeys") Collection<String> objectKeys);
+
+    /**
+     * S3 삭제가 끝난 객체 행 삭제 (그사이 되살아난 행은 키가 바뀌었으므로 대상이 아님)
+     */
+    @Modifying
+    @Query("DELETE FROM ImageBlob b WHERE b.objectKey IN :objectKeys AND b.deletingAt IS NOT NULL")
+    int deleteAllDeleting(@Param("objectKeys") Collection<String> objectKeys);
+
+    /**
+     * 어디에서도 참조하지 않는데 참조 수가 남은 객체의 참조 수 초기화 (고아 객체 정리)
+     * - before 이후에 참조를 획득한 객체는 아직 사진 등을 저장하는 중일 수 있으므로 제외한다.
+     * @return 초기화한 키
+     */
+    @Query(value = "UPDATE image_blobs SET ref_count = 0 " +
+                   "WHERE object_key IN (:objectKeys) AND ref_count > 0 " +
+                   "AND COALESCE(acquired_at, created_at) < :before " +
+                   "RETURNING object_key",
+           nativeQuery = true)
+    List<String> resetLeakedRefCounts(@Param("objectKeys") Collection<String> objectKeys,
+                                      @Param("before") LocalDateTime before);
+}
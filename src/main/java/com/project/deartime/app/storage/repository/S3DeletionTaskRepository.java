@@ -0,0 +1,56 @@
+package com.project.deartime.app.storage.repository;
+
+import com.project.deartime.app.domain.S3DeletionTask;
+import com.project.deartime.app.storage.dto.S3DeletionClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface S3DeletionTaskRepository extends JpaRepository<S3DeletionTask, Long> {
+
+    /**
+     * 삭제 시각이 된 대기열 선점 (한 번의 UPDATE)
+     * - next_attempt_at 을 leaseUntil 로 미뤄 두므로, 처리 중 서버가 종료되어도 임대가 끝나면 다시 선점된다.
+     * - 다른 워커/노드가 선점 중인 행은 SKIP LOCKED 로 건너뛴다.
+     */
+    @Query(value = "UPDATE s3_deletion_tasks SET next_attempt_at = :leaseUntil, attempts = attempts + 1 " +
+                   "WHERE id IN ( " +
+                   "    SELECT id FROM s3_deletion_tasks " +
+                   "    WHERE next_attempt_at <= :now " +
+                   "    ORDER BY next_attempt_at " +
+                   "    LIMIT :limit " +
+                   "    FOR UPDATE SKIP LOCKED " +
+                   ") " +
+                   "RETURNING id AS \"id\", object_key AS \"objectKey\", attempts AS \"attempts\"",
+           nativeQuery = true)
+    List<S3DeletionClaim> claimDue(@Param("now") LocalDateTime now,
+                                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                                   @Param("limit") int limit);
+
+    /**
+     * 삭제 실패 기록 (nextAttemptAt 이후 재시도)
+     */
+    @Modifying
+    @Query("UPDATE S3DeletionTask t SET t.nextAttemptAt = :nextAttemptAt, t.lastError = :lastError WHERE t.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+
+    /**
+     * 주어진 URL 중 사진/캡슐/프로필 이미지로 참조 중인 URL (고아 객체 판별용)
+     */
+    @Query(value = "SELECT image_url FROM photos WHERE image_url IN (:urls) " +
+                   "UNION SELECT thumbnail_url FROM photos WHERE thumbnail_url IN (:urls) " +
+                   "UNION SELECT medium_url FROM photos WHERE medium_url IN (:urls) " +
+                   "UNION SELECT image_url FROM time_capsule WHERE image_url IN (:urls) " +
+                   "UNION SELECT profile_image_url FROM users WHERE profile_image_url IN (:urls)",
+           nativeQuery = true)
+    List<String> findReferencedUrls(@Param("urls") Collection<String> urls);
+}
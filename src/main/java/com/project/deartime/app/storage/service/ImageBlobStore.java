@@ -0,0 +1,64 @@
+package com.project.deartime.app.storage.service;
+
+import com.project.deartime.app.storage.dto.ImageBlobAcquisition;
+import com.project.deartime.app.storage.repository.ImageBlobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 중복 제거된 이미지 객체의 참조 수 관리
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageBlobStore {
+
+    private final ImageBlobRepository imageBlobRepository;
+
+    /**
+     * 업로드할 내용의 참조 획득
+     * - 업로드 결과와 무관하게 바로 커밋한다. (호출한 트랜잭션이 롤백되면 삭제 대기열 등록으로 참조를 반납)
+     * - 삭제 중인 객체를 다시 참조하면 revivedKey 로 새로 업로드해야 한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ImageBlobAcquisition acquire(String sha256, String objectKey, String revivedKey,
+                                        String contentType, long size) {
+        return imageBlobRepository.acquire(sha256, objectKey, revivedKey, contentType, size);
+    }
+
+    /**
+     * 업로드에 실패한 참조 반납 (다른 참조가 없으면 등록 취소)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void cancel(String objectKey) {
+        imageBlobRepository.release(objectKey);
+        imageBlobRepository.deleteUnreferenced(objectKey);
+    }
+
+    /**
+     * 참조 반납 (호출한 트랜잭션에 참여)
+     * @return 남은 참조 수 (중복 제거 객체가 아니면 비어 있음)
+     */
+    @Transactional
+    public Optional<Integer> release(String objectKey) {
+        return imageBlobRepository.release(objectKey);
+    }
+
+    /**
+     * 참조 수가 새어 남은 고아 객체의 참조 수 초기화
+     * @return 초기화한 키
+     */
+    @Transactional
+    public List<String> resetLeaked(Collection<String> objectKeys, LocalDateTime acquiredBefore) {
+        if (objectKeys.isEmpty()) {
+            return List.of();
+        }
+        return imageBlobRepository.resetLeakedRefCounts(objectKeys, acquiredBefore);
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.deartime.app.storage.service;
+
+import com.project.deartime.app.domain.S3DeletionTask;
+import com.project.deartime.app.service.S3Service;
+import com.project.deartime.app.storage.repository.S3DeletionTaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * S3 파일 삭제 요청 (대기열에 기록만 하고, 실제 삭제는 S3DeletionWorker 가 커밋 이후 일괄 처리)
+ * - 기본적으로 호출한 트랜잭션에 참여하므로, 참조 행 삭제가 롤백되면 파일 삭제 요청도 함께 취소된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3DeletionQueue {
+
+    private final S3DeletionTaskRepository s3DeletionTaskRepository;
+    private final S3Service s3Service;
+    private final ImageBlobStore imageBlobStore;
+
+    /**
+     * 파일 URL 삭제 요청 (null 은 무시)
+     * - 중복 제거된 객체는 참조 수만 줄이고, 더 이상 참조가 없을 때만 삭제 대기열에 등록한다.
+     */
+    @Transactional
+    public void enqueue(Collection<String> fileUrls) {
+        enqueueKeys(fileUrls.stream()
+                .filter(Objects::nonNull)
+                .map(s3Service::getObjectKey)
+                .filter(this::isUnreferenced)
+                .toList());
+    }
+
+    /**
+     * 파일과 그 파일에서 만든 파생 파일 삭제 요청
+     * - 원본이 다른 곳에서 아직 참조 중이면(중복 제거 객체) 같은 키를 쓰는 파생 파일도 남겨 둔다.
+     */
+    @Transactional
+    public void enqueueWithDerived(String fileUrl, Collection<String> derivedUrls) {
+        if (fileUrl == null || !isUnreferenced(s3Service.getObjectKey(fileUrl))) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        keys.add(s3Service.getObjectKey(fileUrl));
+        derivedUrls.stream()
+                .filter(Objects::nonNull)
+                .map(s3Service::getObjectKey)
+                .forEach(keys::add);
+        enqueueKeys(keys);
+    }
+
+    private boolean isUnreferenced(String key) {
+        return imageBlobStore.release(key)
+                .map(remaining -> remaining == 0)
+                .orElse(true);
+    }
+
+    /**
+     * 호출한 트랜잭션과 별개로 즉시 커밋 (롤백되는 트랜잭션에서 업로드해 둔 파일 정리용)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueIndependently(Collection<String> fileUrls) {
+        enqueue(fileUrls);
+    }
+
+    /**
+     * S3 Object Key 삭제 요청
+     */
+    @Transactional
+    public void enqueueKeys(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<S3DeletionTask> tasks = keys.stream()
+                .map(key -> S3DeletionTask.builder()
+                        .objectKey(key)
+                        .attempts(0)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+
+        s3DeletionTaskRepository.saveAll(tasks);
+        log.debug("[S3 DELETE] 삭제 대기열 등록. count={}", tasks.size());
+    }
+}
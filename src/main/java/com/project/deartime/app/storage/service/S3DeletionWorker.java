@@ -0,0 +1,186 @@
+package com.project.deartime.app.storage.service;
+
+import com.project.deartime.app.service.S3Service;
+import com.project.deartime.app.storage.dto.S3DeletionClaim;
+import com.project.deartime.app.storage.repository.ImageBlobRepository;
+import com.project.deartime.app.storage.repository.S3DeletionTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * S3 삭제 대기열 워커
+ * - 삭제 시각이 된 행을 batch-size(최대 1000, DeleteObjects 한도) 단위로 선점해 한 번의 요청으로 삭제한다.
+ * - 실패한 키는 지수 백오프(retry-base-delay * 2^(시도 횟수-1), 최대 retry-max-delay)로 다시 시도한다.
+ * - 여러 인스턴스가 동시에 실행되어도 SKIP LOCKED 로 서로 다른 행을 나눠 처리한다.
+ * - S3 요청은 DB 트랜잭션 밖에서 한다. (선점/삭제 표시 → 커밋 → S3 삭제 → 결과 반영의 짧은 트랜잭션 두 번)
+ *   3단계 전에 서버가 종료되면 임대가 끝난 뒤 다시 선점해 삭제를 반복한다. (S3 삭제는 멱등)
+ */
+@Slf4j
+@Component
+public class S3DeletionWorker {
+
+    private static final int MAX_DELETE_OBJECTS = 1000;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final S3DeletionTaskRepository s3DeletionTaskRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+
+    // 대기 중인 삭제 개수 (워커 실행 시 갱신)
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    @Value("${storage.deletion.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${storage.deletion.lease:PT5M}")
+    private Duration lease;
+
+    @Value("${storage.deletion.retry-base-delay:PT1M}")
+    private Duration retryBaseDelay;
+
+    @Value("${storage.deletion.retry-max-delay:PT6H}")
+    private Duration retryMaxDelay;
+
+    public S3DeletionWorker(S3DeletionTaskRepository s3DeletionTaskRepository,
+                            ImageBlobRepository imageBlobRepository,
+                            S3Service s3Service,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry) {
+        this.s3DeletionTaskRepository = s3DeletionTaskRepository;
+        this.imageBlobRepository = imageBlobRepository;
+        this.s3Service = s3Service;
+        this.transactionTemplate = transactionTemplate;
+        this.deletedCounter = Counter.builder("s3.deletion.deleted")
+                .description("삭제 대기열에서 삭제 완료된 S3 객체 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("s3.deletion.failed")
+                .description("삭제에 실패해 재시도 대기 중으로 돌아간 S3 객체 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.deletion.queue.depth", queueDepth, AtomicLong::get)
+                .description("삭제 대기 중인 S3 객체 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.deletion.poll-interval:PT30S}")
+    public void drain() {
+        int limit = Math.min(batchSize, MAX_DELETE_OBJECTS);
+
+        // 한 배치가 가득 찼다면 남은 행이 있을 수 있으므로 계속 선점
+        while (true) {
+            int claimed = deleteBatch(limit);
+            if (claimed < limit) {
+                break;
+            }
+        }
+
+        queueDepth.set(s3DeletionTaskRepository.count());
+    }
+
+    private int deleteBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<S3DeletionClaim> claims = transactionTemplate.execute(status ->
+                s3DeletionTaskRepository.claimDue(now, now.plus(lease), limit));
+        if (claims == null || claims.isEmpty()) {
+            return 0;
+        }
+
+        List<String> claimedKeys = claims.stream()
+                .map(S3DeletionClaim::getObjectKey)
+                .distinct()
+                .toList();
+
+        // 1. 중복 제거 객체 삭제 표시 후 바로 커밋 (S3 요청 동안 행 잠금을 잡고 있지 않음)
+        //    대기열 등록 이후 다시 참조된 객체는 삭제하지 않고 대기열에서만 제거
+        Set<String> revivedKeys = transactionTemplate.execute(status -> {
+            imageBlobRepository.markDeleting(claimedKeys);
+            return Set.copyOf(imageBlobRepository.findReferencedObjectKeys(claimedKeys));
+        });
+
+        List<String> deleteKeys = claimedKeys.stream()
+                .filter(key -> revivedKeys == null || !revivedKeys.contains(key))
+                .toList();
+
+        // 2. 트랜잭션 밖에서 S3 일괄 삭제
+        Map<String, String> failures = deleteKeys.isEmpty() ? Map.of() : deleteObjects(deleteKeys);
+
+        // 3. 삭제 결과 반영 (삭제된 객체 행 제거, 대기열 완료/재시도 기록)
+        DeleteResult result = transactionTemplate.execute(status -> {
+            List<String> deletedKeys = deleteKeys.stream()
+                    .filter(key -> !failures.containsKey(key))
+                    .toList();
+            if (!deletedKeys.isEmpty()) {
+                imageBlobRepository.deleteAllDeleting(deletedKeys);
+            }
+
+            List<Long> doneIds = claims.stream()
+                    .filter(claim -> !failures.containsKey(claim.getObjectKey()))
+                    .map(S3DeletionClaim::getId)
+                    .toList();
+            s3DeletionTaskRepository.deleteAllByIdInBatch(doneIds);
+
+            for (S3DeletionClaim claim : claims) {
+                String error = failures.get(claim.getObjectKey());
+                if (error != null) {
+                    s3DeletionTaskRepository.markFailed(
+                            claim.getId(),
+                            LocalDateTime.now().plus(retryDelay(claim.getAttempts())),
+                            error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error
+                    );
+                }
+            }
+
+            return new DeleteResult(doneIds.size(), claims.size() - doneIds.size());
+        });
+
+        if (result == null) {
+            return claims.size();
+        }
+
+        deletedCounter.increment(result.succeeded());
+        if (result.failed() > 0) {
+            failedCounter.increment(result.failed());
+            log.warn("[S3 DELETE] 일부 객체 삭제 실패, 재시도 예정. failed={}, succeeded={}",
+                    result.failed(), result.succeeded());
+        }
+
+        return claims.size();
+    }
+
+    private Map<String, String> deleteObjects(List<String> keys) {
+        try {
+            return s3Service.deleteObjects(keys);
+        } catch (Exception e) {
+            // 요청 자체가 실패하면 배치 전체를 재시도
+            log.warn("[S3 DELETE] 일괄 삭제 요청 실패. count={}", keys.size(), e);
+            String error = String.valueOf(e.getMessage());
+            return keys.stream().collect(Collectors.toMap(key -> key, key -> error));
+        }
+    }
+
+    private Duration retryDelay(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = retryBaseDelay.multipliedBy(1L << exponent);
+        return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+    }
+
+    private record DeleteResult(int succeeded, int failed) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.project.deartime.app.storage.service;
+
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.project.deartime.app.capsule.scheduler.SchedulerNodeRegistry;
+import com.project.deartime.app.service.S3Service;
+import com.project.deartime.app.storage.repository.S3DeletionTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 고아 S3 객체 정리
+ * - 업로드 폴더를 페이지 단위로 조회해 사진/캡슐/프로필 어디에서도 참조하지 않는 객체를 삭제 대기열에 등록한다.
+ * - 업로드 직후 아직 등록(confirm)되지 않은 파일을 지우지 않도록 min-age 보다 오래된 객체만 대상으로 한다.
+ * - 버킷 전체를 조회하므로 리더 노드에서만 실행한다.
+ * - 참조 여부는 ref_count 가 아니라 실제 참조 행(findReferencedUrls)으로 판단한다.
+ *   참조가 없는데 ref_count 가 남은(새어 나간) 중복 제거 객체는 참조 수를 0 으로 바로잡은 뒤 삭제 대기열에 등록한다.
+ *   (ref_count 가 남아 있으면 삭제 워커가 다시 참조된 객체로 보고 건너뛰기 때문)
+ */
+@Slf4j
+@Component
+public class S3OrphanReconciler {
+
+    private final S3Service s3Service;
+    private final S3DeletionTaskRepository s3DeletionTaskRepository;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final ImageBlobStore imageBlobStore;
+    private final SchedulerNodeRegistry schedulerNodeRegistry;
+    private final Counter reclaimedCounter;
+    private final Counter leakedCounter;
+
+    @Value("${storage.reconcile.prefixes:images/,photos/,capsules/,profiles/}")
+    private List<String> prefixes;
+
+    @Value("${storage.reconcile.min-age:P1D}")
+    private Duration minAge;
+
+    public S3OrphanReconciler(S3Service s3Service,
+                              S3DeletionTaskRepository s3DeletionTaskRepository,
+                              S3DeletionQueue s3DeletionQueue,
+                              ImageBlobStore imageBlobStore,
+                              SchedulerNodeRegistry schedulerNodeRegistry,
+                              MeterRegistry meterRegistry) {
+        this.s3Service = s3Service;
+        this.s3DeletionTaskRepository = s3DeletionTaskRepository;
+        this.s3DeletionQueue = s3DeletionQueue;
+        this.imageBlobStore = imageBlobStore;
+        this.schedulerNodeRegistry = schedulerNodeRegistry;
+        this.reclaimedCounter = Counter.builder("s3.orphan.reclaimed")
+                .description("참조되지 않아 삭제 대기열에 등록된 S3 객체 수")
+                .register(meterRegistry);
+        this.leakedCounter = Counter.builder("s3.orphan.leaked")
+                .description("참조가 없는데 ref_count 가 남아 있어 0 으로 바로잡은 중복 제거 객체 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${storage.reconcile.cron:0 0 4 * * *}") // 기본 매일 04시
+    public void reconcile() {
+        if (!schedulerNodeRegistry.getPartition().isLeader()) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(minAge);
+        AtomicInteger scanned = new AtomicInteger();
+        AtomicInteger orphaned = new AtomicInteger();
+
+        for (String prefix : prefixes) {
+            try {
+                s3Service.forEachObjectPage(prefix, page -> {
+                    scanned.addAndGet(page.size());
+                    orphaned.addAndGet(reclaimPage(page, cutoff));
+                });
+            } catch (Exception e) {
+                log.error("[S3 RECONCILE] 고아 객체 정리 실패. prefix={}", prefix, e);
+            }
+        }
+
+        log.info("[S3 RECONCILE] 고아 객체 정리 완료. scanned={}, orphaned={}", scanned.get(), orphaned.get());
+    }
+
+    private int reclaimPage(List<S3ObjectSummary> page, Instant cutoff) {
+        // 키 -> URL (DB 에는 S3Service 가 만든 URL 형태로 저장되어 있음)
+        Map<String, String> candidates = page.stream()
+                .filter(summary -> summary.getLastModified().toInstant().isBefore(cutoff))
+                .collect(Collectors.toMap(
+                        S3ObjectSummary::getKey,
+                        summary -> s3Service.getFileUrl(summary.getKey())));
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> referenced = new HashSet<>(s3DeletionTaskRepository.findReferencedUrls(candidates.values()));
+
+        List<String> orphanKeys = candidates.entrySet().stream()
+                .filter(entry -> !referenced.contains(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        if (orphanKeys.isEmpty()) {
+            return 0;
+        }
+
+        // 최근에 참조를 획득한 객체는 아직 사진 등을 저장하는 중일 수 있으므로 그대로 둠 (워커가 건너뜀)
+        List<String> leakedKeys = imageBlobStore.resetLeaked(orphanKeys, LocalDateTime.now().minus(minAge));
+        if (!leakedKeys.isEmpty()) {
+            leakedCounter.increment(leakedKeys.size());
+            log.warn("[S3 RECONCILE] 참조 없이 ref_count 가 남은 객체 초기화. count={}", leakedKeys.size());
+        }
+
+        s3DeletionQueue.enqueueKeys(orphanKeys);
+        reclaimedCounter.increment(orphanKeys.size());
+        return orphanKeys.size();
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.deartime.app.upload.controller;
+
+import com.project.deartime.app.upload.dto.PresignedUploadRequest;
+import com.project.deartime.app.upload.dto.PresignedUploadResponse;
+import com.project.deartime.app.upload.service.UploadService;
+import com.project.deartime.global.dto.ApiResponseTemplete;
+import com.project.deartime.global.exception.SuccessCode;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/uploads")
+public class UploadController {
+
+    private final UploadService uploadService;
+
+    /**
+     * 직접 업로드용 presigned URL 발급
+     * POST /api/uploads/presigned
+     */
+    @PostMapping("/presigned")
+    public ResponseEntity<ApiResponseTemplete<PresignedUploadResponse>> createPresignedUpload(
+            @AuthenticationPrincipal String userId,
+            @RequestBody @Valid PresignedUploadRequest request
+    ) {
+        Long myId = Long.parseLong(userId);
+
+        PresignedUploadResponse response = uploadService.createPresignedUpload(myId, request);
+
+        return ApiResponseTemplete.success(SuccessCode.UPLOAD_URL_ISSUED, response);
+    }
+}
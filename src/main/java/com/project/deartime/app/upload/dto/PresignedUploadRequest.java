@@ -0,0 +1,21 @@
+package com.project.deartime.app.upload.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record PresignedUploadRequest(
+        @NotNull(message = "업로드 대상은 필수입니다.")
+        UploadTarget target,
+
+        @NotBlank(message = "파일명을 입력해주세요.")
+        String fileName,
+
+        @NotBlank(message = "파일 형식을 입력해주세요.")
+        String contentType,
+
+        @NotNull(message = "파일 크기를 입력해주세요.")
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        Long contentLength
+) {
+}
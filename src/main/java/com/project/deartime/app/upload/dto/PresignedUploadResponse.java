@@ -0,0 +1,14 @@
+package com.project.deartime.app.upload.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 URL 발급 응답
+ * - 클라이언트는 uploadUrl 로 Content-Type 헤더와 함께 PUT 한 뒤, key 로 등록(confirm) API 를 호출한다.
+ */
+public record PresignedUploadResponse(
+        String key,
+        String uploadUrl,
+        LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,19 @@
+package com.project.deartime.app.upload.dto;
+
+/**
+ * 업로드 대상별 S3 폴더
+ * - 모두 사용자별 폴더로 나눈다. (confirm 시 다른 사용자의 키를 가져다 쓰지 못하도록 폴더로 소유자 확인)
+ */
+public enum UploadTarget {
+    PHOTO,
+    CAPSULE,
+    PROFILE;
+
+    public String folder(Long userId) {
+        return switch (this) {
+            case PHOTO -> "photos/" + userId;
+            case CAPSULE -> "capsules/" + userId;
+            case PROFILE -> "profiles/" + userId;
+        };
+    }
+}
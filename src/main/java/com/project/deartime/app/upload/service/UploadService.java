@@ -0,0 +1,33 @@
+package com.project.deartime.app.upload.service;
+
+import com.project.deartime.app.service.S3Service;
+import com.project.deartime.app.upload.dto.PresignedUploadRequest;
+import com.project.deartime.app.upload.dto.PresignedUploadResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 클라이언트 직접 업로드(presigned URL) 발급
+ * - 파일 본문은 서버를 거치지 않고 S3 로 바로 올라가며, 서버는 URL 발급과 등록(confirm) 시 확인만 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadService {
+
+    private final S3Service s3Service;
+
+    public PresignedUploadResponse createPresignedUpload(Long userId, PresignedUploadRequest request) {
+        PresignedUploadResponse response = s3Service.createPresignedUpload(
+                request.fileName(),
+                request.target().folder(userId),
+                request.contentType(),
+                request.contentLength()
+        );
+
+        log.info("[UPLOAD] presigned URL 발급. userId={}, target={}, key={}",
+                userId, request.target(), response.key());
+        return response;
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.deartime.global.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Flyway 마이그레이션 실행 시점 설정
+ * - 테이블은 아직 ddl-auto(update)로 생성되므로, 기본 시점(EntityManagerFactory 생성 전)에는 건너뛰고
+ *   EntityManagerFactory 생성 직후 인덱스/초기 적재 등 마이그레이션을 적용한다.
+ * - 빈 초기화 단계에서 실행하므로 웹 서버 기동, @Scheduled 작업, ApplicationReadyEvent 리스너보다 먼저 끝난다.
+ *   (마이그레이션이 실패하면 트래픽을 받지 않고 기동이 중단됨)
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy deferredFlywayMigrationStrategy() {
+        return flyway -> {
+            // ddl-auto로 테이블이 만들어진 뒤 flywayMigrationAfterSchema에서 실행
+        };
+    }
+
+    /**
+     * EntityManagerFactory(ddl-auto) 이후, 트래픽을 받기 전에 마이그레이션 실행
+     */
+    @Bean
+    public InitializingBean flywayMigrationAfterSchema(Flyway flyway, EntityManagerFactory entityManagerFactory) {
+        return flyway::migrate;
+    }
+}
@@ -1,6 +1,8 @@
 package com.project.deartime.global.config;
 
 import com.project.deartime.app.auth.controller.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -38,23 +40,26 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String token = authHeader.substring(7);
 
-                if (jwtTokenProvider.validateToken(token)) {
-                    String userId = jwtTokenProvider.getUserId(token);
-                    String email = jwtTokenProvider.getEmail(token);
-
-                    // Authentication 객체 생성 및 설정
-                    Authentication authentication = new UsernamePasswordAuthenticationToken(
-                            userId,
-                            null,
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-                    );
-
-                    accessor.setUser(authentication);
-                    log.info("[WEBSOCKET] JWT 인증 성공. userId={}, email={}", userId, email);
-                } else {
+                Claims claims;
+                try {
+                    claims = jwtTokenProvider.parseAccessClaims(token);
+                } catch (JwtException | IllegalArgumentException e) {
                     log.warn("[WEBSOCKET] 유효하지 않은 JWT 토큰");
                     throw new AccessDeniedException("유효하지 않은 JWT 토큰입니다.");
                 }
+
+                String userId = claims.getSubject();
+                String email = claims.get("email", String.class);
+
+                // Authentication 객체 생성 및 설정
+                Authentication authentication = new UsernamePasswordAuthenticationToken(
+                        userId,
+                        null,
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                );
+
+                accessor.setUser(authentication);
+                log.info("[WEBSOCKET] JWT 인증 성공. userId={}, email={}", userId, email);
             } else {
                 log.warn("[WEBSOCKET] Authorization 헤더가 없거나 Bearer 형식이 아님");
                 throw new AccessDeniedException("WebSocket 연결에 유효한 Authorization 헤더가 필요합니다.");
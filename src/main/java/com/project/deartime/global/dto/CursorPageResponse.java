@@ -0,0 +1,54 @@
+package com.project.deartime.global.dto;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ * - COUNT 쿼리 없이 pageSize + 1 건을 조회해 다음 페이지 존재 여부를 판단한다.
+ */
+public record CursorPageResponse<T>(
+        List<T> data,
+        String nextCursor,
+        boolean hasNext,
+        int pageSize
+) {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 한 건 더 조회하는 Pageable
+     */
+    public static Pageable lookAhead(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    /**
+     * lookAhead(pageSize)로 조회한 결과를 커서 페이지로 변환
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int pageSize, Function<T, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> data = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasNext
+                ? cursorOf.apply(data.get(data.size() - 1)).encode()
+                : null;
+
+        return new CursorPageResponse<>(data, nextCursor, hasNext, pageSize);
+    }
+
+    public <R> CursorPageResponse<R> map(Function<T, R> mapper) {
+        return new CursorPageResponse<>(
+                data.stream().map(mapper).toList(),
+                nextCursor,
+                hasNext,
+                pageSize
+        );
+    }
+}
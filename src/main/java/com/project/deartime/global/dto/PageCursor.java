@@ -0,0 +1,57 @@
+package com.project.deartime.global.dto;
+
+import com.project.deartime.global.exception.CoreApiException;
+import com.project.deartime.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반(keyset) 페이지네이션 위치
+ * - (created_at, id) 내림차순 정렬 기준으로 마지막으로 내려준 행의 위치를 나타낸다.
+ * - 클라이언트에는 Base64(URL-safe) 문자열로 전달한다.
+ */
+public record PageCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final char SEPARATOR = '_';
+
+    /** 첫 페이지 조회용 커서 (모든 행보다 뒤에 위치) */
+    private static final PageCursor FIRST = new PageCursor(
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+            Long.MAX_VALUE
+    );
+
+    public static PageCursor first() {
+        return FIRST;
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지)
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int pos = decoded.lastIndexOf(SEPARATOR);
+
+            return new PageCursor(
+                    LocalDateTime.parse(decoded.substring(0, pos)),
+                    Long.parseLong(decoded.substring(pos + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new CoreApiException(ErrorCode.INVALID_CURSOR, "유효하지 않은 커서 값입니다. cursor=" + cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -33,6 +33,7 @@ public enum ErrorCode {
     INVALID_JSON_FORMAT(HttpStatus.BAD_REQUEST,"요청 형식이 잘못되었습니다. 데이터 타입을 확인해주세요."),
     DUPLICATE_NICKNAME(HttpStatus.BAD_REQUEST, "이미 사용 중인 닉네임입니다."),
     INVALID_TOKEN(HttpStatus.BAD_REQUEST, "유효하지 않은 토큰입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서 값입니다."),
 
     // Friend 관련 400 에러
     FRIEND_SELF_REQUEST(HttpStatus.BAD_REQUEST, "자기 자신에게 친구 요청을 보낼 수 없습니다."),
@@ -89,6 +90,9 @@ public enum ErrorCode {
     S3_FILE_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S3 파일 삭제에 실패했습니다."),
     S3_FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S3 파일 업로드에 실패했습니다."),
     INVALID_S3_FILE_URL(HttpStatus.BAD_REQUEST, "유효하지 않은 S3 파일 URL입니다."),
+    INVALID_UPLOAD_KEY(HttpStatus.BAD_REQUEST, "유효하지 않은 업로드 키입니다."),
+    UPLOADED_FILE_NOT_FOUND(HttpStatus.BAD_REQUEST, "업로드된 파일을 찾을 수 없습니다."),
+    UPLOAD_KEY_ALREADY_USED(HttpStatus.CONFLICT, "이미 사용 중인 업로드 키입니다."),
 
     // TimeCapsule
     CAPSULE_NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 타임캡슐을 찾을 수 없습니다."),
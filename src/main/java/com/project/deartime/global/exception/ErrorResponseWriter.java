@@ -0,0 +1,47 @@
+package com.project.deartime.global.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deartime.global.dto.ApiResponseTemplete;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 필터/시큐리티 핸들러용 에러 응답 작성
+ * - 컨트롤러 밖(필터 체인)에서 ErrorCode 응답을 보낼 때 사용한다.
+ * - ErrorCode 별 응답 본문은 시작 시 Spring 의 ObjectMapper 로 한 번만 직렬화해 두고, 요청마다 바이트 그대로 쓴다.
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) throws JsonProcessingException {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ApiResponseTemplete<Object> body = ApiResponseTemplete.builder()
+                    .status(errorCode.getHttpStatusCode())
+                    .success(false)
+                    .message(errorCode.getMessage())
+                    .data(null)
+                    .build();
+
+            bodies.put(errorCode, objectMapper.writeValueAsBytes(body));
+        }
+    }
+
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = bodies.get(errorCode);
+
+        response.setStatus(errorCode.getHttpStatusCode());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
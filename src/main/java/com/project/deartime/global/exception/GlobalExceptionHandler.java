@@ -2,6 +2,7 @@ package com.project.deartime.global.exception;
 
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.project.deartime.global.dto.ApiResponseTemplete;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.server.ResponseStatusException;
 
 
+@Slf4j
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -121,7 +123,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponseTemplete<String>> handleGeneralException(Exception e) {
-        e.printStackTrace(); // 서버 로그에 스택 트레이스 출력
+        log.error("[ERROR] 처리되지 않은 예외", e);
         return ApiResponseTemplete.error(ErrorCode.INTERNAL_SERVER_ERROR, "Unexpected server error occurred: " + e.getMessage());
     }
 
@@ -11,6 +11,7 @@ public enum SuccessCode {
     // 200 OK
     LOGIN_USER_SUCCESS(HttpStatus.OK, "로그인에 성공했습니다"),
     LOGOUT_SUCCESS(HttpStatus.OK, "로그아웃 성공"),
+    TOKEN_REFRESH_SUCCESS(HttpStatus.OK, "토큰 재발급 성공"),
     LETTER_WRITE_INFO_SUCCESS(HttpStatus.OK, "편지 작성화면 정보를 불러왔습니다."),
     GET_LETTER_SUCCESS(HttpStatus.OK, "편지(들)을 불러오는데 성공했습니다"),
     GET_LETTER_EMPTY(HttpStatus.OK, "편지가 없습니다."),
@@ -24,6 +25,7 @@ public enum SuccessCode {
     ALBUM_PHOTOS_FETCH_SUCCESS(HttpStatus.OK, "앨범의 사진(들)을 불러오는데 성공했습니다."),
     PHOTO_LIST_FETCH_SUCCESS(HttpStatus.OK, "사진 목록을 불러오는데 성공했습니다."),
     PHOTO_LIST_EMPTY(HttpStatus.OK, "사진 목록이 없습니다."),
+    PHOTO_TIMELINE_FETCH_SUCCESS(HttpStatus.OK, "사진 타임라인을 불러오는데 성공했습니다."),
     PHOTO_CAPTION_UPDATE_SUCCESS(HttpStatus.OK, "사진 캡션 수정에 성공했습니다."),
     ALBUM_PHOTOS_EMPTY(HttpStatus.OK, "앨범에 사진이 없습니다."),
     ALBUM_LIST_EMPTY(HttpStatus.OK, "앨범 목록이 없습니다."),
@@ -43,6 +45,7 @@ public enum SuccessCode {
     PROFILE_UPDATE_SUCCESS(HttpStatus.OK, "프로필 업데이트 성공"),
     HOME_DATA_RETRIEVED(HttpStatus.OK, "홈화면으로 정보 받아오기 성공"),
     IMAGE_UPLOAD_SUCCESS(HttpStatus.OK, "이미지 업로드 성공"),
+    UPLOAD_URL_ISSUED(HttpStatus.OK, "업로드 URL 발급 성공"),
 
     // Friend 관련 200 OK
     FRIEND_LIST_SUCCESS(HttpStatus.OK, "친구 목록 조회 성공"),
@@ -0,0 +1,19 @@
+-- 촬영일 요약 재집계
+-- V5 초기 적재는 ON CONFLICT DO NOTHING 이라, 적재 중 업로드로 먼저 생긴 행은 그 업로드 수만 남았을 수 있음
+-- (당시 마이그레이션은 트래픽을 받은 뒤 실행됨) 이미 적용된 V5 는 체크섬 때문에 수정하지 않고 여기서 덮어씀
+INSERT INTO photo_date_summary (user_id, taken_date, photo_count)
+SELECT user_id, CAST(taken_at AS date), COUNT(*)
+FROM photos
+WHERE taken_at IS NOT NULL
+GROUP BY user_id, CAST(taken_at AS date)
+ON CONFLICT (user_id, taken_date) DO UPDATE SET photo_count = EXCLUDED.photo_count;
+
+-- 사진이 남지 않은 날짜 행 제거
+DELETE FROM photo_date_summary s
+WHERE NOT EXISTS (
+    SELECT 1
+    FROM photos p
+    WHERE p.user_id = s.user_id
+      AND p.taken_at >= s.taken_date
+      AND p.taken_at < s.taken_date + 1
+);
@@ -0,0 +1,56 @@
+-- 조회가 잦은 경로에 대한 복합 인덱스
+-- 엔티티의 @Table(indexes = ...)와 동일한 이름을 사용하므로 ddl-auto로 이미 생성된 경우 건너뛴다.
+
+-- 편지: 받은/보낸 편지함 (receiver_id|sender_id, 삭제 여부, 최신순)
+CREATE INDEX IF NOT EXISTS idx_letters_receiver_deleted_created
+    ON letters (receiver_id, is_deleted_by_receiver, created_at);
+CREATE INDEX IF NOT EXISTS idx_letters_sender_deleted_created
+    ON letters (sender_id, is_deleted_by_sender, created_at);
+
+-- 편지 즐겨찾기: 사용자별 즐겨찾기 목록
+CREATE INDEX IF NOT EXISTS idx_letter_favorite_user_created
+    ON letter_favorite (user_id, created_at);
+
+-- 알림: 사용자별 목록 (읽지 않은 순, 최신순)
+CREATE INDEX IF NOT EXISTS idx_notification_user_read_created
+    ON notification (user_id, is_read, created_at);
+
+-- 알림: 읽지 않은 알림 개수 (부분 인덱스)
+CREATE INDEX IF NOT EXISTS idx_notification_user_unread
+    ON notification (user_id)
+    WHERE is_read = false;
+
+-- 타임캡슐: 오픈 스케줄러
+CREATE INDEX IF NOT EXISTS idx_time_capsule_open_at_notified
+    ON time_capsule (open_at, is_notified);
+
+-- 타임캡슐: 알림 미발송 캡슐만 담는 부분 인덱스 (스케줄러가 실제로 조회하는 범위)
+CREATE INDEX IF NOT EXISTS idx_time_capsule_pending_open
+    ON time_capsule (open_at)
+    WHERE is_notified = false;
+
+-- 타임캡슐: 보낸/받은 캡슐 목록
+CREATE INDEX IF NOT EXISTS idx_time_capsule_sender_created
+    ON time_capsule (sender_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_time_capsule_receiver_created
+    ON time_capsule (receiver_id, created_at);
+
+-- 친구: friend_id 기준 상태별 조회 (받은 친구 요청, 친구 목록)
+CREATE INDEX IF NOT EXISTS idx_friend_friend_status
+    ON friend (friend_id, status);
+
+-- 대리인
+CREATE INDEX IF NOT EXISTS idx_proxies_user_proxy_user
+    ON proxies (user_id, proxy_user_id);
+
+-- 갤러리
+CREATE INDEX IF NOT EXISTS idx_photos_user_created
+    ON photos (user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_albums_user_created
+    ON albums (user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_album_photos_photo
+    ON album_photos (photo_id);
+
+-- 사용자: OAuth 로그인 시 provider_id 조회
+CREATE INDEX IF NOT EXISTS idx_users_provider_id
+    ON users (provider_id);
@@ -0,0 +1,8 @@
+-- 알림 outbox: 미전송 행만 대상으로 하는 부분 인덱스 (복구 poller, 미전송 개수 지표)
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_unpublished
+    ON notification_outbox (id)
+    WHERE published_at IS NULL;
+
+-- 알림 outbox: 전송 완료 행 정리
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_published_at
+    ON notification_outbox (published_at);
@@ -0,0 +1,4 @@
+-- 사진 파생 이미지: 아직 썸네일이 없는 행만 대상으로 하는 부분 인덱스 (backfill)
+CREATE INDEX IF NOT EXISTS idx_photos_variant_pending
+    ON photos (id)
+    WHERE thumbnail_url IS NULL;
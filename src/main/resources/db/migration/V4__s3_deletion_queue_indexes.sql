@@ -0,0 +1,10 @@
+-- S3 삭제 대기열: 삭제 시각이 된 행 선점
+CREATE INDEX IF NOT EXISTS idx_s3_deletion_tasks_next_attempt
+    ON s3_deletion_tasks (next_attempt_at);
+
+-- 고아 객체 정리: 페이지 단위 URL 참조 여부 조회
+CREATE INDEX IF NOT EXISTS idx_photos_image_url ON photos (image_url);
+CREATE INDEX IF NOT EXISTS idx_photos_thumbnail_url ON photos (thumbnail_url);
+CREATE INDEX IF NOT EXISTS idx_photos_medium_url ON photos (medium_url);
+CREATE INDEX IF NOT EXISTS idx_time_capsule_image_url ON time_capsule (image_url);
+CREATE INDEX IF NOT EXISTS idx_users_profile_image_url ON users (profile_image_url);
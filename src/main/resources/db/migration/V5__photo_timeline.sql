@@ -0,0 +1,11 @@
+-- 사진 타임라인: 촬영일 기준 seek 조회 (user_id, taken_at DESC, id DESC)
+CREATE INDEX IF NOT EXISTS idx_photos_user_taken_id
+    ON photos (user_id, taken_at, id);
+
+-- 촬영일 요약 테이블 초기 적재 (이후에는 사진 업로드/삭제 시 증감)
+INSERT INTO photo_date_summary (user_id, taken_date, photo_count)
+SELECT user_id, CAST(taken_at AS date), COUNT(*)
+FROM photos
+WHERE taken_at IS NOT NULL
+GROUP BY user_id, CAST(taken_at AS date)
+ON CONFLICT (user_id, taken_date) DO NOTHING;
@@ -0,0 +1,7 @@
+-- 토큰 폐기 기록: 노드별 메모리 폐기 목록 동기화 (마지막 동기화 이후 폐기된 토큰)
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_type_revoked
+    ON revoked_tokens (token_type, revoked_at);
+
+-- 만료된 폐기 기록 정리
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires
+    ON revoked_tokens (expires_at);
@@ -0,0 +1,5 @@
+-- 알림: 커서 기반 목록 조회 (user_id, created_at, id) seek
+-- 커서 조회는 읽음 여부와 무관하게 (created_at, id) 내림차순이므로 is_read 가 중간에 낀 idx_notification_user_read_created 로는
+-- 정렬 없이 seek 할 수 없다.
+CREATE INDEX IF NOT EXISTS idx_notification_user_created_id
+    ON notification (user_id, created_at, id);
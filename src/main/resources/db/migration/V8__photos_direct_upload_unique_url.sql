@@ -0,0 +1,52 @@
+-- 직접 업로드(presigned URL) 사진: 한 객체는 한 사진으로만 등록 (photos/{userId}/{uuid}.{ext})
+-- 내용 기준 중복 제거 객체(images/{sha256}.{ext})는 여러 사진이 공유하므로 제외한 부분 유니크 인덱스
+
+-- 동시 등록으로 이미 생긴 중복 행 정리 (가장 먼저 저장된 행을 남김)
+CREATE TEMPORARY TABLE duplicate_photos ON COMMIT DROP AS
+SELECT id, kept_id, user_id, taken_at
+FROM (
+    SELECT id, user_id, taken_at,
+           MIN(id) OVER (PARTITION BY image_url) AS kept_id
+    FROM photos
+    WHERE image_url LIKE '%/photos/%'
+) p
+WHERE id <> kept_id;
+
+-- 중복 행이 들어 있던 앨범은 남는 행으로 옮김
+INSERT INTO album_photos (photo_id, album_id, created_at)
+SELECT d.kept_id, ap.album_id, ap.created_at
+FROM album_photos ap
+JOIN duplicate_photos d ON d.id = ap.photo_id
+ON CONFLICT DO NOTHING;
+
+DELETE FROM album_photos ap
+USING duplicate_photos d
+WHERE ap.photo_id = d.id;
+
+UPDATE albums a
+SET cover_photo_id = d.kept_id
+FROM duplicate_photos d
+WHERE a.cover_photo_id = d.id;
+
+-- 촬영일 요약에서 삭제할 행 수만큼 차감
+UPDATE photo_date_summary s
+SET photo_count = s.photo_count - d.photo_count
+FROM (
+    SELECT user_id, CAST(taken_at AS date) AS taken_date, COUNT(*) AS photo_count
+    FROM duplicate_photos
+    WHERE taken_at IS NOT NULL
+    GROUP BY user_id, CAST(taken_at AS date)
+) d
+WHERE s.user_id = d.user_id
+  AND s.taken_date = d.taken_date;
+
+DELETE FROM photo_date_summary WHERE photo_count <= 0;
+
+-- 파생 이미지 키는 원본 URL 에서 만들어지므로 남는 행과 같은 객체를 가리킴 (S3 객체는 삭제하지 않음)
+DELETE FROM photos p
+USING duplicate_photos d
+WHERE p.id = d.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_photos_direct_upload_image_url
+    ON photos (image_url)
+    WHERE image_url LIKE '%/photos/%';
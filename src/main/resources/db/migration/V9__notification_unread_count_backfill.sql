@@ -0,0 +1,8 @@
+-- 읽지 않은 알림 개수 초기 적재 (이후에는 알림 생성/읽음/삭제 시 증감)
+-- 기존 행이 있으면 집계 값으로 덮어씀 (마이그레이션은 트래픽을 받기 전에 실행됨)
+INSERT INTO notification_unread_count (user_id, unread_count)
+SELECT user_id, COUNT(*)
+FROM notification
+WHERE is_read = false
+GROUP BY user_id
+ON CONFLICT (user_id) DO UPDATE SET unread_count = EXCLUDED.unread_count;
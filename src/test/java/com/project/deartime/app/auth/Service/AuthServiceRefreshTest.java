@@ -0,0 +1,79 @@
+package com.project.deartime.app.auth.Service;
+
+import com.project.deartime.app.auth.controller.JwtTokenProvider;
+import com.project.deartime.app.auth.dto.TokenResponse;
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.global.exception.CoreApiException;
+import com.project.deartime.support.IntegrationTestSupport;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * refresh token rotation 과 재사용 감지 검증
+ * - 재발급된 토큰은 같은 token family 를 이어받는다.
+ * - 이미 사용된 refresh token 이 다시 오면 family 전체가 폐기되어, 먼저 재발급받은 토큰도 쓸 수 없어야 한다.
+ */
+class AuthServiceRefreshTest extends IntegrationTestSupport {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .providerId("google-" + suffix)
+                .email(suffix + "@test.com")
+                .nickname("t-" + suffix)
+                .build());
+    }
+
+    @Test
+    void rotatedTokensKeepFamily() {
+        String familyId = jwtTokenProvider.newTokenFamily();
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId().toString(), familyId);
+
+        TokenResponse rotated = authService.refresh(refreshToken);
+
+        assertThat(jwtTokenProvider.getFamilyId(jwtTokenProvider.parseAccessClaims(rotated.getAccessToken())))
+                .isEqualTo(familyId);
+        assertThat(jwtTokenProvider.getFamilyId(jwtTokenProvider.parseRefreshClaims(rotated.getRefreshToken())))
+                .isEqualTo(familyId);
+    }
+
+    @Test
+    void reusedRefreshTokenRevokesFamily() {
+        String familyId = jwtTokenProvider.newTokenFamily();
+        String stolen = jwtTokenProvider.createRefreshToken(user.getId().toString(), familyId);
+        String otherSession = jwtTokenProvider.createRefreshToken(user.getId().toString(), jwtTokenProvider.newTokenFamily());
+
+        TokenResponse rotated = authService.refresh(stolen);
+
+        // 이미 사용된 토큰 재사용
+        assertThatThrownBy(() -> authService.refresh(stolen)).isInstanceOf(CoreApiException.class);
+
+        // 먼저 재발급받은 토큰도 같은 family 라서 거부
+        assertThatThrownBy(() -> authService.refresh(rotated.getRefreshToken())).isInstanceOf(CoreApiException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessClaims(rotated.getAccessToken()))
+                .isInstanceOf(JwtException.class);
+
+        // 다른 로그인 세션은 영향 없음
+        assertThat(authService.refresh(otherSession).getAccessToken()).isNotBlank();
+    }
+}
@@ -0,0 +1,220 @@
+package com.project.deartime.app.auth.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deartime.app.auth.dto.UpdateProfileRequest;
+import com.project.deartime.app.auth.dto.UserSnapshot;
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.capsule.dto.CreateCapsuleRequest;
+import com.project.deartime.app.capsule.service.TimeCapsuleService;
+import com.project.deartime.app.domain.Friend;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.app.friend.repository.FriendRepository;
+import com.project.deartime.app.letter.dto.LetterSendRequest;
+import com.project.deartime.app.letter.service.LetterService;
+import com.project.deartime.support.IntegrationTestSupport;
+import com.project.deartime.support.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserSnapshotCache 검증
+ * - 요청 안에서는 요청 속성의 값을 재사용하고, 요청 간에는 캐시를 재사용한다.
+ * - updateProfile 커밋 이후에는 새 닉네임이 보여야 한다. (커밋 전에 다른 요청이 이전 값을 다시 적재한 경우 포함)
+ * - 캐시가 채워져 있으면 createCapsule / sendLetter 가 보낸 사람을 users 에서 다시 조회하지 않는다.
+ */
+class UserSnapshotCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private UserSnapshotCache userSnapshotCache;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TimeCapsuleService timeCapsuleService;
+
+    @Autowired
+    private LetterService letterService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    private User sender;
+    private User receiver;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(newUser("s-"));
+        receiver = userRepository.save(newUser("r-"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void snapshotMatchesUserEntity() {
+        UserSnapshot snapshot = userSnapshotCache.get(sender.getId());
+
+        assertThat(snapshot).isEqualTo(UserSnapshot.from(sender));
+        assertThat(snapshot.nickname()).isEqualTo(sender.getNickname());
+    }
+
+    @Test
+    void snapshotIsReusedWithinRequest() {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        queryCounter.reset();
+        UserSnapshot first = userSnapshotCache.get(sender.getId());
+        UserSnapshot second = userSnapshotCache.get(sender.getId());
+
+        assertThat(second).isSameAs(first);
+        assertThat(queryCounter.selectsFrom("users")).isEqualTo(1);
+
+        // 같은 요청 안에서 무효화하면 요청 속성도 함께 비워진다.
+        userSnapshotCache.invalidate(sender.getId());
+        queryCounter.reset();
+        userSnapshotCache.get(sender.getId());
+        assertThat(queryCounter.selectsFrom("users")).isEqualTo(1);
+    }
+
+    @Test
+    void snapshotIsReusedAcrossRequests() {
+        userSnapshotCache.get(sender.getId());
+
+        queryCounter.reset();
+        userSnapshotCache.get(sender.getId());
+
+        assertThat(queryCounter.count()).isZero();
+    }
+
+    @Test
+    void updatedNicknameIsVisibleAfterCommit() {
+        assertThat(userSnapshotCache.get(sender.getId()).nickname()).isEqualTo(sender.getNickname());
+
+        String newNickname = "n-" + UUID.randomUUID().toString().substring(0, 8);
+        userService.updateProfile(sender.getId(), profileRequest(newNickname), null);
+
+        assertThat(userSnapshotCache.get(sender.getId()).nickname()).isEqualTo(newNickname);
+    }
+
+    @Test
+    void staleSnapshotLoadedBeforeCommitIsInvalidatedAfterCommit() {
+        String oldNickname = sender.getNickname();
+        String newNickname = "n-" + UUID.randomUUID().toString().substring(0, 8);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.updateProfile(sender.getId(), profileRequest(newNickname), null);
+            userRepository.flush();
+
+            // 커밋 전 다른 요청(스레드)은 이전 값을 읽어 캐시에 다시 적재한다.
+            UserSnapshot stale = CompletableFuture.supplyAsync(() -> userSnapshotCache.get(sender.getId())).join();
+            assertThat(stale.nickname()).isEqualTo(oldNickname);
+        });
+
+        // 커밋 이후 무효화로 이전 값이 남지 않는다.
+        assertThat(userSnapshotCache.get(sender.getId()).nickname()).isEqualTo(newNickname);
+    }
+
+    @Test
+    void createCapsuleDoesNotSelectSenderWhenCached() {
+        friendRepository.save(Friend.builder()
+                .user(sender)
+                .friend(receiver)
+                .status("accepted")
+                .requestedAt(LocalDateTime.now())
+                .build());
+
+        queryCounter.reset();
+        timeCapsuleService.createCapsule(sender.getId(), capsuleRequest(), null);
+        long coldUserSelects = queryCounter.selectsFrom("users");
+
+        queryCounter.reset();
+        timeCapsuleService.createCapsule(sender.getId(), capsuleRequest(), null);
+        long warmUserSelects = queryCounter.selectsFrom("users");
+
+        // 캐시 적중 시에는 받는 사람 조회만 남는다.
+        assertThat(warmUserSelects).isEqualTo(coldUserSelects - 1);
+        assertThat(queryCounter.executions()).noneMatch(this::isSnapshotQuery);
+    }
+
+    @Test
+    void sendLetterDoesNotSelectSenderWhenCached() {
+        jdbcTemplate.update("INSERT INTO letter_themes (name, code) VALUES ('기본', 'DEFAULT') ON CONFLICT (code) DO NOTHING");
+
+        queryCounter.reset();
+        letterService.sendLetter(sender.getId(), letterRequest());
+        long coldUserSelects = queryCounter.selectsFrom("users");
+
+        queryCounter.reset();
+        letterService.sendLetter(sender.getId(), letterRequest());
+        long warmUserSelects = queryCounter.selectsFrom("users");
+
+        assertThat(warmUserSelects).isEqualTo(coldUserSelects - 1);
+        assertThat(queryCounter.executions()).noneMatch(this::isSnapshotQuery);
+    }
+
+    // UserRepository.findSnapshotById 가 만드는 SQL (id, nickname, profile_image_url 만 조회)
+    private boolean isSnapshotQuery(QueryCounter.Execution execution) {
+        String sql = execution.sql().toLowerCase();
+        return execution.startsWith("select") && sql.contains(" from users ") && sql.contains("profile_image_url")
+                && !sql.contains("provider_id");
+    }
+
+    private UpdateProfileRequest profileRequest(String nickname) {
+        return objectMapper.convertValue(Map.of("nickname", nickname), UpdateProfileRequest.class);
+    }
+
+    private CreateCapsuleRequest capsuleRequest() {
+        return CreateCapsuleRequest.builder()
+                .title("capsule")
+                .content("content")
+                .receiverId(receiver.getId())
+                .openAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    private LetterSendRequest letterRequest() {
+        return new LetterSendRequest(receiver.getId(), "DEFAULT", "title", "content");
+    }
+
+    private static User newUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return User.builder()
+                .providerId("google-" + suffix)
+                .email(suffix + "@test.com")
+                .nickname(prefix + suffix)
+                .build();
+    }
+}
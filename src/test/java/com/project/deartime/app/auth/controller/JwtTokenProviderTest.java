@@ -0,0 +1,167 @@
+package com.project.deartime.app.auth.controller;
+
+import com.project.deartime.app.auth.Service.RevokedTokenStore;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtTokenProvider 의 Claims 캐시 검증
+ * - 캐시에 있어도 만료/폐기된 토큰은 거부되어야 한다.
+ * - 캐시된 Claims 는 여러 요청이 공유하므로 호출한 쪽에서 변경할 수 없어야 한다.
+ * - 요청 인증에는 type 이 ACCESS 인 토큰만 쓸 수 있다. (이전 형식 토큰, 임시 토큰, refresh token 거부)
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "deartime-test-jwt-secret-key-0123456789abcdef";
+    private static final String FAMILY_ID = "family-1";
+
+    private RevokedTokenStore revokedTokenStore;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenStore = mock(RevokedTokenStore.class);
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 10_000, revokedTokenStore);
+    }
+
+    @Test
+    void validTokenIsServedFromCache() {
+        String token = jwtTokenProvider.createAccessToken("1", "user@test.com", FAMILY_ID);
+
+        Claims first = jwtTokenProvider.parseClaims(token);
+        Claims second = jwtTokenProvider.parseClaims(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getSubject()).isEqualTo("1");
+        assertThat(second.get("email", String.class)).isEqualTo("user@test.com");
+    }
+
+    @Test
+    void cachedClaimsCannotBeMutated() {
+        String token = jwtTokenProvider.createAccessToken("1", "user@test.com", FAMILY_ID);
+        Claims claims = jwtTokenProvider.parseClaims(token);
+
+        assertThatThrownBy(() -> claims.setSubject("2")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> claims.setExpiration(new Date(Long.MAX_VALUE)))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> claims.put("type", "ADMIN")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> claims.putAll(Map.of("sub", "2"))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> claims.remove("jti")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(claims::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> claims.entrySet().clear()).isInstanceOf(UnsupportedOperationException.class);
+
+        Claims cached = jwtTokenProvider.parseClaims(token);
+        assertThat(cached.getSubject()).isEqualTo("1");
+        assertThat(cached.getId()).isNotNull();
+        assertThat(cached.get("type", String.class)).isEqualTo("ACCESS");
+    }
+
+    @Test
+    void expiredTokenIsRejectedEvenWhenCached() throws InterruptedException {
+        // exp 는 초 단위로 잘리므로 2초 뒤 만료되는 토큰을 만들고 실제 만료 시각이 지날 때까지 대기
+        String token = signedToken("1", new Date(System.currentTimeMillis() + 2_000));
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        assertThat(jwtTokenProvider.parseClaims(token)).isSameAs(claims);
+
+        long waitMillis = claims.getExpiration().getTime() - System.currentTimeMillis() + 50;
+        if (waitMillis > 0) {
+            Thread.sleep(waitMillis);
+        }
+
+        assertThatThrownBy(() -> jwtTokenProvider.parseClaims(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessClaims(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(jwtTokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    void revokedTokenIsRejectedEvenWhenCached() {
+        String token = jwtTokenProvider.createAccessToken("1", "user@test.com", FAMILY_ID);
+        String jti = jwtTokenProvider.parseAccessClaims(token).getId();
+
+        when(revokedTokenStore.isRevoked(jti)).thenReturn(true);
+
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessClaims(token))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("폐기");
+    }
+
+    @Test
+    void refreshTokenIsRejectedForAuthentication() {
+        String token = jwtTokenProvider.createRefreshToken("1", FAMILY_ID);
+        jwtTokenProvider.parseRefreshClaims(token);
+
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessClaims(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void revokedFamilyIsRejectedEvenWhenCached() {
+        String token = jwtTokenProvider.createAccessToken("1", "user@test.com", FAMILY_ID);
+        jwtTokenProvider.parseAccessClaims(token);
+
+        when(revokedTokenStore.isRevoked(FAMILY_ID)).thenReturn(true);
+
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessClaims(token))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("폐기");
+    }
+
+    @Test
+    void legacyTokensWithoutTypeAreRejectedForAuthentication() {
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+        // 이전 형식 refresh token (subject 만 있음)
+        String legacyRefresh = signedToken("1", expiration);
+        // 이전 형식 access token (type/jti 없음)
+        String legacyAccess = Jwts.builder()
+                .setSubject("1")
+                .claim("email", "user@test.com")
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+        // 회원가입용 임시 토큰 (subject 가 사용자 ID 가 아닌 providerId)
+        String tempToken = jwtTokenProvider.createTempToken("google-123", "user@test.com");
+
+        for (String token : new String[]{legacyRefresh, legacyAccess, tempToken}) {
+            assertThatThrownBy(() -> jwtTokenProvider.parseAccessClaims(token)).isInstanceOf(JwtException.class);
+            assertThatThrownBy(() -> jwtTokenProvider.parseRefreshClaims(token)).isInstanceOf(JwtException.class);
+        }
+    }
+
+    @Test
+    void tokenWithInvalidSignatureIsNeverCached() {
+        String forged = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-0123456789abcdef-another".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThatThrownBy(() -> jwtTokenProvider.parseClaims(forged)).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.parseClaims(forged)).isInstanceOf(SignatureException.class);
+    }
+
+    private static String signedToken(String subject, Date expiration) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
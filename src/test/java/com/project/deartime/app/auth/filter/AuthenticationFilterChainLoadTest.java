@@ -0,0 +1,156 @@
+package com.project.deartime.app.auth.filter;
+
+import com.project.deartime.app.auth.Service.RevokedTokenStore;
+import com.project.deartime.app.auth.controller.JwtTokenProvider;
+import com.project.deartime.global.exception.ErrorResponseWriter;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * RequestLoggingFilter → JwtAuthenticationFilter 체인을 여러 스레드에서 동시에 실행하는 부하 테스트
+ * - 모든 요청이 자기 토큰의 사용자로 인증되고, 처리 중 MDC 에 자기 requestId/userId 가 들어 있는지 확인
+ * - 요청이 끝난 스레드에는 MDC 값이 남지 않아야 한다. (요청 스레드 재사용 시 다른 요청 로그에 섞임)
+ * - 처리량은 로그로 남긴다. (환경마다 달라 임계값으로 검증하지 않음)
+ */
+class AuthenticationFilterChainLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthenticationFilterChainLoadTest.class);
+
+    private static final String SECRET = "deartime-test-jwt-secret-key-0123456789abcdef";
+    private static final int THREADS = 32;
+    private static final int REQUESTS_PER_THREAD = 2_000;
+    private static final int USERS = 16;
+
+    private RequestLoggingFilter requestLoggingFilter;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private List<String> tokens;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 10_000, mock(RevokedTokenStore.class));
+        requestLoggingFilter = new RequestLoggingFilter();
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+                jwtTokenProvider, new ErrorResponseWriter(Jackson2ObjectMapperBuilder.json().build()));
+
+        tokens = new ArrayList<>();
+        for (int userId = 1; userId <= USERS; userId++) {
+            tokens.add(jwtTokenProvider.createAccessToken(
+                    String.valueOf(userId), "user" + userId + "@test.com", jwtTokenProvider.newTokenFamily()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void concurrentRequestsAreAuthenticatedWithIsolatedMdc() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int threadIndex = t;
+                tasks.add(() -> {
+                    start.await();
+                    int authenticated = 0;
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        int userIndex = (threadIndex + i) % USERS;
+                        if (handle(userIndex, "req-" + threadIndex + "-" + i)) {
+                            authenticated++;
+                        }
+                    }
+                    return authenticated;
+                });
+            }
+
+            List<Future<Integer>> futures = tasks.stream().map(executor::submit).toList();
+            long startedAt = System.nanoTime();
+            start.countDown();
+
+            int authenticated = 0;
+            for (Future<Integer> future : futures) {
+                authenticated += future.get(2, TimeUnit.MINUTES);
+            }
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            int total = THREADS * REQUESTS_PER_THREAD;
+            assertThat(authenticated).isEqualTo(total);
+
+            log.info("[LOAD] filter chain requests={}, threads={}, elapsedMs={}, throughput={} req/s",
+                    total, THREADS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    String.format("%.0f", total * 1_000_000_000.0 / elapsedNanos));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 요청 하나를 체인에 통과시키고, 끝난 뒤 스레드에 남은 상태가 없는지까지 확인
+    private boolean handle(int userIndex, String requestId) throws Exception {
+        String expectedUserId = String.valueOf(userIndex + 1);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/letters");
+        request.setServletPath("/api/letters");
+        request.addHeader("Authorization", "Bearer " + tokens.get(userIndex));
+        request.addHeader("X-Request-Id", requestId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ObservingServlet servlet = new ObservingServlet();
+        new MockFilterChain(servlet, requestLoggingFilter, jwtAuthenticationFilter).doFilter(request, response);
+
+        // 실제 서버에서는 SecurityContextHolderFilter 가 정리
+        SecurityContextHolder.clearContext();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("X-Request-Id")).isEqualTo(requestId);
+        assertThat(servlet.requestId).isEqualTo(requestId);
+        assertThat(servlet.mdcUserId).isEqualTo(expectedUserId);
+        assertThat(MDC.get(RequestLoggingFilter.MDC_REQUEST_ID)).isNull();
+        assertThat(MDC.get(RequestLoggingFilter.MDC_USER_ID)).isNull();
+
+        return expectedUserId.equals(servlet.principal);
+    }
+
+    // 체인 끝(컨트롤러 위치)에서 보이는 인증 정보와 MDC 기록
+    private static class ObservingServlet extends HttpServlet {
+
+        private String principal;
+        private String requestId;
+        private String mdcUserId;
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            principal = authentication == null ? null : (String) authentication.getPrincipal();
+            requestId = MDC.get(RequestLoggingFilter.MDC_REQUEST_ID);
+            mdcUserId = MDC.get(RequestLoggingFilter.MDC_USER_ID);
+            response.setStatus(200);
+        }
+    }
+}
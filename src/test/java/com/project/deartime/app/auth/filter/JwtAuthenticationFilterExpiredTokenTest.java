@@ -0,0 +1,130 @@
+package com.project.deartime.app.auth.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deartime.app.auth.Service.RevokedTokenStore;
+import com.project.deartime.app.auth.controller.JwtTokenProvider;
+import com.project.deartime.global.exception.ErrorCode;
+import com.project.deartime.global.exception.ErrorResponseWriter;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 만료된 토큰으로 동시에 요청해도 모든 응답이 EXPIRED_TOKEN_EXCEPTION 의 상태 코드, 미리 직렬화한 본문,
+ * 본문과 같은 Content-Length 를 갖는지 확인 (ErrorResponseWriter 의 캐시된 본문을 여러 스레드가 공유)
+ */
+class JwtAuthenticationFilterExpiredTokenTest {
+
+    private static final String SECRET = "deartime-test-jwt-secret-key-0123456789abcdef";
+    private static final int THREADS = 32;
+    private static final int REQUESTS_PER_THREAD = 200;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 10_000, mock(RevokedTokenStore.class));
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, new ErrorResponseWriter(objectMapper));
+    }
+
+    @Test
+    void concurrentExpiredTokenRequestsGetIdenticalCachedResponse() throws Exception {
+        // 토큰마다 만료 시각이 달라 서로 다른 토큰도 섞어서 요청
+        List<String> expiredTokens = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            expiredTokens.add(expiredToken(i));
+        }
+
+        AtomicInteger chainCalls = new AtomicInteger();
+        FilterChain chain = (request, response) -> chainCalls.incrementAndGet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Callable<List<MockHttpServletResponse>>> tasks = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                String token = expiredTokens.get(t % expiredTokens.size());
+                tasks.add(() -> {
+                    start.await();
+                    List<MockHttpServletResponse> responses = new ArrayList<>(REQUESTS_PER_THREAD);
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/letters");
+                        request.setServletPath("/api/letters");
+                        request.addHeader("Authorization", "Bearer " + token);
+                        MockHttpServletResponse response = new MockHttpServletResponse();
+
+                        filter.doFilter(request, response, chain);
+                        responses.add(response);
+                    }
+                    return responses;
+                });
+            }
+
+            List<Future<List<MockHttpServletResponse>>> futures = tasks.stream().map(executor::submit).toList();
+            start.countDown();
+
+            byte[] expectedBody = null;
+            for (Future<List<MockHttpServletResponse>> future : futures) {
+                for (MockHttpServletResponse response : future.get()) {
+                    byte[] body = response.getContentAsByteArray();
+                    if (expectedBody == null) {
+                        expectedBody = body;
+                    }
+
+                    assertThat(response.getStatus()).isEqualTo(ErrorCode.EXPIRED_TOKEN_EXCEPTION.getHttpStatusCode());
+                    assertThat(response.getContentType()).startsWith("application/json");
+                    assertThat(response.getContentLength()).isEqualTo(body.length);
+                    assertThat(body).isEqualTo(expectedBody);
+                }
+            }
+
+            assertExpiredTokenBody(expectedBody);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(chainCalls).hasValue(0);
+    }
+
+    private void assertExpiredTokenBody(byte[] body) throws Exception {
+        JsonNode json = objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+        assertThat(json.get("status").asInt()).isEqualTo(ErrorCode.EXPIRED_TOKEN_EXCEPTION.getHttpStatusCode());
+        assertThat(json.get("success").asBoolean()).isFalse();
+        assertThat(json.get("message").asText()).isEqualTo(ErrorCode.EXPIRED_TOKEN_EXCEPTION.getMessage());
+        // Content-Length 는 문자 수가 아닌 UTF-8 바이트 수 (메시지가 한글)
+        assertThat(body.length).isGreaterThan(json.get("message").asText().length());
+    }
+
+    private static String expiredToken(int minutesAgo) {
+        Date expiration = new Date(System.currentTimeMillis() - minutesAgo * 60_000L);
+        return Jwts.builder()
+                .setSubject("1")
+                .setIssuedAt(new Date(expiration.getTime() - 15 * 60_000L))
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
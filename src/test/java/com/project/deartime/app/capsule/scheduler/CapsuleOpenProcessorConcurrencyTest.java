@@ -0,0 +1,168 @@
+package com.project.deartime.app.capsule.scheduler;
+
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.capsule.repository.TimeCapsuleRepository;
+import com.project.deartime.app.domain.TimeCapsule;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.app.notification.service.NotificationService;
+import com.project.deartime.support.IntegrationTestSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드의 스케줄러가 같은 DB 에서 동시에 캡슐을 선점해도 캡슐마다 알림이 정확히 한 번만 저장되는지 확인
+ * - 노드마다 별도의 CapsuleOpenProcessor 를 만들어 폴링 스케줄러 경로와 오픈 타이머 경로를 동시에 실행한다.
+ */
+class CapsuleOpenProcessorConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int CAPSULE_COUNT = 300;
+    private static final int BATCH_SIZE = 20;
+
+    @Autowired
+    private TimeCapsuleRepository timeCapsuleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void eachCapsuleIsNotifiedExactlyOnceAcrossTwoNodes() throws Exception {
+        List<Long> capsuleIds = createReadyCapsules();
+
+        CapsuleOpenProcessor nodeA = newProcessor();
+        CapsuleOpenProcessor nodeB = newProcessor();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Callable<Integer>> tasks = List.of(
+                    () -> pollUntilEmpty(nodeA, start),
+                    () -> pollUntilEmpty(nodeB, start),
+                    () -> openByTimer(nodeA, capsuleIds, start),
+                    () -> openByTimer(nodeB, capsuleIds.reversed(), start)
+            );
+            List<Future<Integer>> futures = tasks.stream().map(executor::submit).toList();
+            start.countDown();
+
+            int processed = 0;
+            for (Future<Integer> future : futures) {
+                processed += future.get();
+            }
+
+            // 다른 테스트가 남긴 캡슐이 함께 처리될 수 있으므로 최소 개수만 확인
+            assertThat(processed).isGreaterThanOrEqualTo(CAPSULE_COUNT);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<Long, Integer> notificationCounts = countOpenNotifications(capsuleIds);
+        assertThat(notificationCounts).hasSize(CAPSULE_COUNT);
+        assertThat(notificationCounts.values()).containsOnly(1);
+
+        Integer pending = new NamedParameterJdbcTemplate(jdbcTemplate).queryForObject(
+                "SELECT COUNT(*) FROM time_capsule WHERE id IN (:ids) AND is_notified = false",
+                new MapSqlParameterSource("ids", capsuleIds), Integer.class);
+        assertThat(pending).isZero();
+    }
+
+    private CapsuleOpenProcessor newProcessor() {
+        CapsuleOpenProcessor processor = new CapsuleOpenProcessor(
+                timeCapsuleRepository, notificationService, transactionTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(processor, "batchSize", BATCH_SIZE);
+        return processor;
+    }
+
+    // TimeCapsuleOpenScheduler 와 같은 방식으로 배치가 가득 차지 않을 때까지 선점
+    private int pollUntilEmpty(CapsuleOpenProcessor processor, CountDownLatch start) throws InterruptedException {
+        start.await();
+        int total = 0;
+        while (true) {
+            int processed = processor.openReadyCapsules(LocalDateTime.now());
+            total += processed;
+            if (processed < processor.getBatchSize()) {
+                return total;
+            }
+        }
+    }
+
+    // CapsuleOpenTimer 와 같은 방식으로 지정한 캡슐을 배치 단위로 선점
+    private int openByTimer(CapsuleOpenProcessor processor, List<Long> capsuleIds, CountDownLatch start)
+            throws InterruptedException {
+        start.await();
+        int total = 0;
+        for (int from = 0; from < capsuleIds.size(); from += BATCH_SIZE) {
+            List<Long> due = capsuleIds.subList(from, Math.min(from + BATCH_SIZE, capsuleIds.size()));
+            total += processor.openCapsules(due, LocalDateTime.now());
+        }
+        return total;
+    }
+
+    private List<Long> createReadyCapsules() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User sender = userRepository.save(newUser("s-" + suffix));
+        User receiver = userRepository.save(newUser("r-" + suffix));
+
+        LocalDateTime openAt = LocalDateTime.now().minusMinutes(1);
+        List<TimeCapsule> capsules = IntStream.range(0, CAPSULE_COUNT)
+                .mapToObj(i -> TimeCapsule.builder()
+                        .title("capsule-" + i)
+                        .content("content")
+                        .openAt(openAt)
+                        .sender(sender)
+                        .receiver(receiver)
+                        .build())
+                .toList();
+
+        return timeCapsuleRepository.saveAll(capsules).stream()
+                .map(TimeCapsule::getId)
+                .toList();
+    }
+
+    private Map<Long, Integer> countOpenNotifications(List<Long> capsuleIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        new NamedParameterJdbcTemplate(jdbcTemplate).query(
+                "SELECT target_id, COUNT(*) AS cnt FROM notification " +
+                "WHERE type = 'CAPSULE_OPENED' AND target_id IN (:ids) GROUP BY target_id",
+                new MapSqlParameterSource("ids", capsuleIds),
+                rs -> {
+                    counts.put(rs.getLong("target_id"), rs.getInt("cnt"));
+                });
+        return counts;
+    }
+
+    private static User newUser(String nickname) {
+        return User.builder()
+                .providerId("google-" + nickname)
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.project.deartime.app.gallery;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ImageMetadataUtil 촬영 일시 추출 검증
+ * - JPEG APP1(Exif) / PNG eXIf 에서 DateTimeOriginal 을 읽고, 이미지 데이터(SOS/IDAT) 이후는 보지 않는다.
+ * - XMP 만 있는 APP1 은 건너뛰고, 잘린 스트림이나 스캔 한도(1MB)를 넘긴 경우에는 파일명으로 대체한다.
+ * - 픽스처는 필요한 세그먼트/청크만 담은 최소 바이트로 만든다. (실제 이미지 데이터 없음)
+ */
+class ImageMetadataUtilTest {
+
+    private static final LocalDateTime TAKEN_AT = LocalDateTime.of(2024, 3, 9, 9, 0, 0);
+    private static final String FILE_NAME = "photo.jpg";
+    private static final String KAKAO_FILE_NAME = "KakaoTalk_20250410_215409275.jpg";
+
+    private static final byte[] EXIF_PREAMBLE = {'E', 'x', 'i', 'f', 0, 0};
+    private static final byte[] XMP_PREAMBLE = "http://ns.adobe.com/xap/1.0/\0".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void jpegExifIsRead() {
+        byte[] jpeg = jpeg(app1(concat(EXIF_PREAMBLE, tiff(TAKEN_AT))));
+
+        assertThat(ImageMetadataUtil.extractTakenAt(jpeg, FILE_NAME)).isEqualTo(TAKEN_AT);
+    }
+
+    @Test
+    void jpegWithoutExifFallsBackToFileName() {
+        byte[] jpeg = jpeg(segment(0xE0, "JFIF\0".getBytes(StandardCharsets.US_ASCII)));
+
+        assertThat(ImageMetadataUtil.extractTakenAt(jpeg, FILE_NAME)).isNull();
+        assertThat(ImageMetadataUtil.extractTakenAt(jpeg, KAKAO_FILE_NAME))
+                .isEqualTo(LocalDateTime.of(2025, 4, 10, 0, 0));
+    }
+
+    @Test
+    void xmpOnlyApp1IsSkipped() {
+        byte[] xmp = app1(concat(XMP_PREAMBLE, "<x:xmpmeta/>".getBytes(StandardCharsets.US_ASCII)));
+
+        assertThat(ImageMetadataUtil.extractTakenAt(jpeg(xmp), FILE_NAME)).isNull();
+
+        // XMP 뒤에 오는 Exif APP1 은 읽힘
+        byte[] exif = app1(concat(EXIF_PREAMBLE, tiff(TAKEN_AT)));
+        assertThat(ImageMetadataUtil.extractTakenAt(jpeg(xmp, exif), FILE_NAME)).isEqualTo(TAKEN_AT);
+    }
+
+    @Test
+    void exifAfterImageDataIsIgnored() {
+        byte[] jpeg = concat(
+                new byte[]{(byte) 0xFF, (byte) 0xD8},
+                segment(0xDA, new byte[10]),
+                app1(concat(EXIF_PREAMBLE, tiff(TAKEN_AT))));
+
+        assertThat(ImageMetadataUtil.extractTakenAt(jpeg, FILE_NAME)).isNull();
+    }
+
+    @Test
+    void truncatedStreamFallsBackToFileName() {
+        byte[] jpeg = jpeg(app1(concat(EXIF_PREAMBLE, tiff(TAKEN_AT))));
+
+        // APP1 길이만큼 데이터가 오지 않고 끊긴 경우 (range 읽기가 세그먼트 중간에서 끝남)
+        byte[] truncated = Arrays.copyOf(jpeg, 20);
+
+        assertThat(ImageMetadataUtil.extractTakenAt(truncated, FILE_NAME)).isNull();
+        assertThat(ImageMetadataUtil.extractTakenAt(truncated, KAKAO_FILE_NAME))
+                .isEqualTo(LocalDateTime.of(2025, 4, 10, 0, 0));
+        assertThat(ImageMetadataUtil.extractTakenAt(new byte[0], FILE_NAME)).isNull();
+    }
+
+    @Test
+    void exifBeyondScanLimitIsNotRead() {
+        byte[] exif = app1(concat(EXIF_PREAMBLE, tiff(TAKEN_AT)));
+
+        // 최대 길이 APP2 세그먼트(약 64KB) 2개 뒤의 Exif 는 읽힘
+        assertThat(ImageMetadataUtil.extractTakenAt(jpeg(app2Padding(2), exif), FILE_NAME)).isEqualTo(TAKEN_AT);
+
+        // 1MB 를 넘긴 뒤의 Exif 는 읽지 않음
+        assertThat(ImageMetadataUtil.extractTakenAt(jpeg(app2Padding(17), exif), FILE_NAME)).isNull();
+    }
+
+    @Test
+    void pngExifIsRead() {
+        byte[] png = png(chunk("eXIf", tiff(TAKEN_AT)), chunk("IDAT", new byte[8]));
+
+        assertThat(ImageMetadataUtil.extractTakenAt(png, "photo.png")).isEqualTo(TAKEN_AT);
+
+        // "Exif\0\0" 를 앞에 붙이는 인코더
+        byte[] prefixed = png(chunk("eXIf", concat(EXIF_PREAMBLE, tiff(TAKEN_AT))), chunk("IDAT", new byte[8]));
+        assertThat(ImageMetadataUtil.extractTakenAt(prefixed, "photo.png")).isEqualTo(TAKEN_AT);
+    }
+
+    @Test
+    void pngWithoutExifBeforeImageDataReturnsNull() {
+        assertThat(ImageMetadataUtil.extractTakenAt(png(chunk("IDAT", new byte[8])), "photo.png")).isNull();
+
+        byte[] exifAfterIdat = png(chunk("IDAT", new byte[8]), chunk("eXIf", tiff(TAKEN_AT)));
+        assertThat(ImageMetadataUtil.extractTakenAt(exifAfterIdat, "photo.png")).isNull();
+    }
+
+    @Test
+    void unknownFormatReturnsNull() {
+        byte[] gif = "GIF89a".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(ImageMetadataUtil.extractTakenAt(gif, "photo.gif")).isNull();
+    }
+
+    /**
+     * IFD0 → Exif SubIFD → DateTimeOriginal 만 담은 little-endian TIFF
+     */
+    static byte[] tiff(LocalDateTime takenAt) {
+        byte[] date = (String.format("%04d:%02d:%02d %02d:%02d:%02d",
+                takenAt.getYear(), takenAt.getMonthValue(), takenAt.getDayOfMonth(),
+                takenAt.getHour(), takenAt.getMinute(), takenAt.getSecond()) + "\0")
+                .getBytes(StandardCharsets.US_ASCII);
+
+        ByteBuffer buffer = ByteBuffer.allocate(44 + date.length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 'I').put((byte) 'I').putShort((short) 42).putInt(8);
+
+        // IFD0 (offset 8): ExifIFDPointer
+        buffer.putShort((short) 1);
+        buffer.putShort((short) 0x8769).putShort((short) 4).putInt(1).putInt(26);
+        buffer.putInt(0);
+
+        // Exif SubIFD (offset 26): DateTimeOriginal (ASCII)
+        buffer.putShort((short) 1);
+        buffer.putShort((short) 0x9003).putShort((short) 2).putInt(date.length).putInt(44);
+        buffer.putInt(0);
+
+        buffer.put(date);
+        return buffer.array();
+    }
+
+    private static byte[] jpeg(byte[]... segments) {
+        return concat(
+                new byte[]{(byte) 0xFF, (byte) 0xD8},
+                concat(segments),
+                segment(0xDA, new byte[10]),
+                new byte[]{(byte) 0xFF, (byte) 0xD9});
+    }
+
+    private static byte[] app1(byte[] payload) {
+        return segment(0xE1, payload);
+    }
+
+    private static byte[] app2Padding(int count) {
+        byte[][] segments = new byte[count][];
+        Arrays.fill(segments, segment(0xE2, new byte[0xFFFF - 2]));
+        return concat(segments);
+    }
+
+    private static byte[] segment(int marker, byte[] payload) {
+        return ByteBuffer.allocate(4 + payload.length)
+                .put((byte) 0xFF).put((byte) marker)
+                .putShort((short) (payload.length + 2))
+                .put(payload)
+                .array();
+    }
+
+    private static byte[] png(byte[]... chunks) {
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        return concat(signature, chunk("IHDR", new byte[13]), concat(chunks), chunk("IEND", new byte[0]));
+    }
+
+    // CRC 는 검증하지 않으므로 0 으로 채움
+    private static byte[] chunk(String type, byte[] data) {
+        return ByteBuffer.allocate(12 + data.length)
+                .putInt(data.length)
+                .put(type.getBytes(StandardCharsets.US_ASCII))
+                .put(data)
+                .putInt(0)
+                .array();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}
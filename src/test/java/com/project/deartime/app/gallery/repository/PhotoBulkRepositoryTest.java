@@ -0,0 +1,94 @@
+package com.project.deartime.app.gallery.repository;
+
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.app.gallery.dto.photos.PhotoDraft;
+import com.project.deartime.app.gallery.dto.photos.SavedPhoto;
+import com.project.deartime.support.IntegrationTestSupport;
+import com.project.deartime.support.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사진 일괄 저장이 사진 수와 관계없이 한 번의 INSERT 로 실행되고, 요청 순서대로 ID 가 반환되는지 확인
+ * - 직접 업로드 URL(photos/...)은 한 사진에만 등록되고, 내용 기준 중복 제거 URL(images/...)은 공유할 수 있어야 한다.
+ */
+class PhotoBulkRepositoryTest extends IntegrationTestSupport {
+
+    @Autowired
+    private PhotoBulkRepository photoBulkRepository;
+
+    @Autowired
+    private PhotoRepository photoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Test
+    void photosAreInsertedWithSingleStatementInRequestOrder() {
+        User user = createUser();
+
+        LocalDateTime takenAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        List<PhotoDraft> drafts = IntStream.range(0, 20)
+                .mapToObj(i -> new PhotoDraft(
+                        "https://deartime-test.s3.amazonaws.com/photos/" + user.getId() + "/" + UUID.randomUUID() + ".jpg",
+                        i % 2 == 0 ? takenAt.plusMinutes(i) : null))
+                .toList();
+
+        queryCounter.reset();
+        List<SavedPhoto> saved = photoBulkRepository.insertAll(user.getId(), "caption", drafts);
+
+        assertThat(queryCounter.count()).isEqualTo(1);
+        assertThat(saved).extracting(SavedPhoto::imageUrl)
+                .containsExactlyElementsOf(drafts.stream().map(PhotoDraft::imageUrl).toList());
+        assertThat(saved).extracting(SavedPhoto::takenAt)
+                .containsExactlyElementsOf(drafts.stream().map(PhotoDraft::takenAt).toList());
+        assertThat(saved).extracting(SavedPhoto::caption).containsOnly("caption");
+        assertThat(saved).extracting(SavedPhoto::id).isSorted().doesNotHaveDuplicates();
+
+        assertThat(photoRepository.findAllById(saved.stream().map(SavedPhoto::id).toList()))
+                .hasSize(drafts.size())
+                .allSatisfy(photo -> {
+                    assertThat(photo.getVariantAttempts()).isZero();
+                    assertThat(photo.getCreatedAt()).isNotNull();
+                });
+    }
+
+    @Test
+    void alreadyRegisteredDirectUploadUrlIsSkipped() {
+        User user = createUser();
+        String registered = "https://deartime-test.s3.amazonaws.com/photos/" + user.getId() + "/" + UUID.randomUUID() + ".jpg";
+        String fresh = "https://deartime-test.s3.amazonaws.com/photos/" + user.getId() + "/" + UUID.randomUUID() + ".jpg";
+        String deduplicated = "https://deartime-test.s3.amazonaws.com/images/" + UUID.randomUUID() + ".jpg";
+
+        photoBulkRepository.insertAll(user.getId(), null, List.of(new PhotoDraft(registered, null)));
+
+        // 동시에 확인을 마친 다른 요청이 같은 키를 다시 저장하는 경우
+        List<SavedPhoto> saved = photoBulkRepository.insertAll(user.getId(), null, List.of(
+                new PhotoDraft(registered, null),
+                new PhotoDraft(fresh, null),
+                new PhotoDraft(deduplicated, null),
+                new PhotoDraft(deduplicated, null)));
+
+        assertThat(saved).extracting(SavedPhoto::imageUrl).containsExactly(fresh, deduplicated, deduplicated);
+    }
+
+    private User createUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .providerId("google-" + suffix)
+                .email(suffix + "@test.com")
+                .nickname("b-" + suffix)
+                .build());
+    }
+}
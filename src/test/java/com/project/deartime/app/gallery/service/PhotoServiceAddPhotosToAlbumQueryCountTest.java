@@ -0,0 +1,147 @@
+package com.project.deartime.app.gallery.service;
+
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.domain.Album;
+import com.project.deartime.app.domain.Photo;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.app.gallery.dto.albums.AlbumPhotoRequest;
+import com.project.deartime.app.gallery.dto.albums.AlbumPhotoResponse;
+import com.project.deartime.app.gallery.repository.AlbumPhotoRepository;
+import com.project.deartime.app.gallery.repository.AlbumRepository;
+import com.project.deartime.app.gallery.repository.PhotoRepository;
+import com.project.deartime.support.IntegrationTestSupport;
+import com.project.deartime.support.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 앨범에 사진 추가 시 요청 사진 수와 무관하게 실행 문장 수가 일정한지 확인
+ * - AlbumPhoto 는 IDENTITY 가 아닌 복합 키(photo_id, album_id)라서 INSERT 가 JDBC 배치로 묶여야 한다.
+ * - 배치 크기(hibernate.jdbc.batch_size) 안에서는 문장 수가 같아야 한다.
+ */
+class PhotoServiceAddPhotosToAlbumQueryCountTest extends IntegrationTestSupport {
+
+    @Autowired
+    private PhotoService photoService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private PhotoRepository photoRepository;
+
+    @Autowired
+    private AlbumPhotoRepository albumPhotoRepository;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int jdbcBatchSize;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .providerId("google-" + suffix)
+                .email(suffix + "@test.com")
+                .nickname("a-" + suffix)
+                .build());
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPhotoCount() {
+        int small = 2;
+        int large = jdbcBatchSize;
+
+        int smallCount = countStatements(createPhotos(small));
+        List<QueryCounter.Execution> smallInserts = albumPhotoInserts();
+
+        int largeCount = countStatements(createPhotos(large));
+        List<QueryCounter.Execution> largeInserts = albumPhotoInserts();
+
+        assertThat(largeCount).isEqualTo(smallCount);
+
+        // INSERT 는 사진 수와 관계없이 한 번의 배치 실행
+        assertThat(smallInserts).singleElement()
+                .satisfies(insert -> assertThat(insert.batchSize()).isEqualTo(small));
+        assertThat(largeInserts).singleElement()
+                .satisfies(insert -> {
+                    assertThat(insert.batch()).isTrue();
+                    assertThat(insert.batchSize()).isEqualTo(large);
+                });
+    }
+
+    @Test
+    void photosAlreadyInAlbumAreSkippedWithoutExtraStatements() {
+        List<Long> photoIds = createPhotos(10);
+        Album album = createAlbum();
+
+        photoService.addPhotosToAlbum(user.getId(), album.getId(), new AlbumPhotoRequest(photoIds.subList(0, 4)));
+
+        queryCounter.reset();
+        List<AlbumPhotoResponse> added = photoService.addPhotosToAlbum(
+                user.getId(), album.getId(), new AlbumPhotoRequest(photoIds));
+        int statements = queryCounter.count();
+
+        assertThat(added).extracting(AlbumPhotoResponse::photoId)
+                .containsExactlyElementsOf(photoIds.subList(4, 10));
+        assertThat(albumPhotoRepository.findByAlbumId(album.getId())).hasSize(10);
+
+        // 앨범 조회 + 사진 조회 + 기존 포함 여부 조회 + INSERT 배치
+        assertThat(statements).isEqualTo(4);
+    }
+
+    private int countStatements(List<Long> photoIds) {
+        Album album = createAlbum();
+
+        queryCounter.reset();
+        List<AlbumPhotoResponse> added = photoService.addPhotosToAlbum(
+                user.getId(), album.getId(), new AlbumPhotoRequest(photoIds));
+        int statements = queryCounter.count();
+
+        assertThat(added).hasSize(photoIds.size());
+        return statements;
+    }
+
+    private List<QueryCounter.Execution> albumPhotoInserts() {
+        return queryCounter.executions().stream()
+                .filter(execution -> execution.startsWith("insert into album_photos"))
+                .toList();
+    }
+
+    private Album createAlbum() {
+        return albumRepository.save(Album.builder()
+                .user(user)
+                .title("album")
+                .build());
+    }
+
+    private List<Long> createPhotos(int count) {
+        List<Photo> photos = IntStream.range(0, count)
+                .mapToObj(i -> Photo.builder()
+                        .user(user)
+                        .imageUrl("https://deartime-test.s3.amazonaws.com/photos/" + UUID.randomUUID() + ".jpg")
+                        .takenAt(LocalDateTime.now())
+                        .build())
+                .toList();
+
+        return photoRepository.saveAll(photos).stream()
+                .map(Photo::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.deartime.app.gallery.service;
+
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.app.gallery.dto.photos.PhotoListResponse;
+import com.project.deartime.app.gallery.dto.photos.PhotoTimelineResponse;
+import com.project.deartime.app.gallery.dto.photos.PhotoUploadRequest;
+import com.project.deartime.app.gallery.dto.photos.PhotoUploadResponse;
+import com.project.deartime.app.gallery.dto.photos.TimelineUnit;
+import com.project.deartime.global.dto.CursorPageResponse;
+import com.project.deartime.support.IntegrationTestSupport;
+import com.project.deartime.support.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 촬영일 요약(photo_date_summary) 유지와 촬영일 seek 조회 검증
+ * - 업로드 시 날짜별로 증가(upsert), 삭제 시 감소하고 사진이 없어진 날짜 행은 제거되어야 한다.
+ * - 촬영일 조회는 (taken_at, id) 내림차순 seek 로 페이지마다 한 번의 SELECT 만 실행해야 한다.
+ * - S3 업로드는 PhotoUploader 를 대체해 결과만 돌려준다. (저장/요약 갱신 경로만 검증)
+ */
+class PhotoServiceTimelineTest extends IntegrationTestSupport {
+
+    private static final LocalDate DAY1 = LocalDate.of(2024, 3, 9);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 3, 10);
+    private static final LocalDate DAY3 = LocalDate.of(2024, 4, 2);
+
+    @MockitoBean
+    private PhotoUploader photoUploader;
+
+    @Autowired
+    private PhotoService photoService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .providerId("google-" + suffix)
+                .email(suffix + "@test.com")
+                .nickname("p-" + suffix)
+                .build());
+    }
+
+    @Test
+    void summaryIsIncrementedAndDecremented() {
+        List<PhotoUploadResponse> first = upload(
+                DAY1.atTime(9, 0), DAY1.atTime(18, 0), DAY2.atTime(12, 0), null);
+        // 같은 날짜가 이미 있으면 upsert 로 더해짐
+        upload(DAY2.atTime(13, 0), DAY3.atTime(8, 0));
+
+        assertThat(timeline(TimelineUnit.DAY)).containsExactly(
+                new PhotoTimelineResponse(DAY3, 1),
+                new PhotoTimelineResponse(DAY2, 2),
+                new PhotoTimelineResponse(DAY1, 2));
+        assertThat(timeline(TimelineUnit.MONTH)).containsExactly(
+                new PhotoTimelineResponse(LocalDate.of(2024, 4, 1), 1),
+                new PhotoTimelineResponse(LocalDate.of(2024, 3, 1), 4));
+
+        // 감소 후 사진이 남은 날짜는 유지, 남지 않은 날짜는 제거
+        photoService.deletePhoto(user.getId(), first.get(0).photoId());
+        assertThat(timeline(TimelineUnit.DAY)).contains(new PhotoTimelineResponse(DAY1, 1));
+
+        photoService.deletePhoto(user.getId(), first.get(1).photoId());
+        assertThat(timeline(TimelineUnit.DAY)).extracting(PhotoTimelineResponse::date)
+                .containsExactly(DAY3, DAY2);
+
+        // 촬영 일시가 없는 사진은 집계 대상이 아님
+        photoService.deletePhoto(user.getId(), first.get(3).photoId());
+        assertThat(timeline(TimelineUnit.DAY)).extracting(PhotoTimelineResponse::count)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void photosFromDateAreSeekedByTakenAt() {
+        // 같은 촬영 일시는 id 로 순서가 정해짐
+        List<PhotoUploadResponse> uploaded = upload(
+                DAY1.atTime(9, 0), DAY2.atTime(10, 0), DAY2.atTime(10, 0), DAY2.atTime(23, 0),
+                DAY3.atTime(8, 0), null);
+        List<Long> ids = uploaded.stream().map(PhotoUploadResponse::photoId).toList();
+
+        queryCounter.reset();
+        CursorPageResponse<PhotoListResponse> page1 = photoService.getPhotosFromDate(user.getId(), DAY2, null, 2);
+        int firstPageStatements = queryCounter.count();
+
+        queryCounter.reset();
+        CursorPageResponse<PhotoListResponse> page2 =
+                photoService.getPhotosFromDate(user.getId(), DAY2, page1.nextCursor(), 2);
+        int secondPageStatements = queryCounter.count();
+
+        // DAY3 사진은 기준일 이후라 제외, 촬영 일시 없는 사진도 제외
+        assertThat(page1.data()).extracting(PhotoListResponse::photoId).containsExactly(ids.get(3), ids.get(2));
+        assertThat(page1.hasNext()).isTrue();
+        assertThat(page2.data()).extracting(PhotoListResponse::photoId).containsExactly(ids.get(1), ids.get(0));
+        assertThat(page2.hasNext()).isFalse();
+
+        assertThat(firstPageStatements).isEqualTo(1);
+        assertThat(secondPageStatements).isEqualTo(1);
+    }
+
+    private List<PhotoTimelineResponse> timeline(TimelineUnit unit) {
+        return photoService.getTimeline(user.getId(), unit, null, null);
+    }
+
+    private List<PhotoUploadResponse> upload(LocalDateTime... takenAts) {
+        List<MultipartFile> files = new ArrayList<>();
+        List<PhotoUploader.UploadedPhoto> uploaded = new ArrayList<>();
+        for (LocalDateTime takenAt : takenAts) {
+            String fileName = UUID.randomUUID() + ".jpg";
+            files.add(new MockMultipartFile("files", fileName, "image/jpeg", new byte[]{1}));
+            uploaded.add(new PhotoUploader.UploadedPhoto(
+                    fileName, "https://deartime-test.s3.amazonaws.com/images/" + fileName, takenAt, null));
+        }
+        given(photoUploader.uploadAll(anyList(), anyString())).willReturn(uploaded);
+
+        List<PhotoUploadResponse> responses =
+                photoService.uploadPhotos(user.getId(), files, new PhotoUploadRequest(null, null));
+
+        assertThat(responses).hasSize(takenAts.length).allMatch(PhotoUploadResponse::success);
+        assertThat(responses).extracting(PhotoUploadResponse::uploadedAt).containsExactlyElementsOf(Arrays.asList(takenAts));
+        return responses;
+    }
+}
@@ -0,0 +1,133 @@
+package com.project.deartime.app.letter.service;
+
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.domain.Letter;
+import com.project.deartime.app.domain.LetterFavorite;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.app.letter.dto.LetterListResponse;
+import com.project.deartime.app.letter.repository.LetterFavoriteRepository;
+import com.project.deartime.app.letter.repository.LetterRepository;
+import com.project.deartime.support.IntegrationTestSupport;
+import com.project.deartime.support.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 편지 목록의 즐겨찾기 여부 조회가 페이지 크기와 무관하게 한 번의 IN 쿼리로 끝나는지 확인
+ * - 편지마다 letter_favorite 를 조회하면(N+1) 페이지 크기에 비례해 문장 수가 늘어난다.
+ */
+class LetterServiceBookmarkQueryCountTest extends IntegrationTestSupport {
+
+    private static final int LETTER_COUNT = 40;
+
+    @Autowired
+    private LetterService letterService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LetterRepository letterRepository;
+
+    @Autowired
+    private LetterFavoriteRepository letterFavoriteRepository;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    private User receiver;
+    private Set<Long> bookmarkedIds;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User sender = userRepository.save(newUser("s-" + suffix));
+        receiver = userRepository.save(newUser("r-" + suffix));
+
+        List<Letter> letters = letterRepository.saveAll(IntStream.range(0, LETTER_COUNT)
+                .mapToObj(i -> Letter.builder()
+                        .sender(sender)
+                        .receiver(receiver)
+                        .title("letter-" + i)
+                        .content("content")
+                        .build())
+                .toList());
+
+        // 짝수 번째 편지만 즐겨찾기
+        List<LetterFavorite> favorites = IntStream.range(0, LETTER_COUNT)
+                .filter(i -> i % 2 == 0)
+                .mapToObj(i -> LetterFavorite.builder()
+                        .user(receiver)
+                        .letter(letters.get(i))
+                        .build())
+                .toList();
+        letterFavoriteRepository.saveAll(favorites);
+
+        bookmarkedIds = favorites.stream()
+                .map(favorite -> favorite.getLetter().getId())
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    void pageQueryCountDoesNotGrowWithPageSize() {
+        queryCounter.reset();
+        List<LetterListResponse> small = letterService.getReceivedLetters(receiver.getId(), PageRequest.of(0, 5)).data();
+        int smallCount = queryCounter.count();
+        long smallFavoriteSelects = queryCounter.selectsFrom("letter_favorite");
+
+        queryCounter.reset();
+        List<LetterListResponse> large = letterService.getReceivedLetters(receiver.getId(), PageRequest.of(0, 30)).data();
+        int largeCount = queryCounter.count();
+        long largeFavoriteSelects = queryCounter.selectsFrom("letter_favorite");
+
+        assertThat(small).hasSize(5);
+        assertThat(large).hasSize(30);
+        assertThat(largeCount).isEqualTo(smallCount);
+        assertThat(smallFavoriteSelects).isEqualTo(1);
+        assertThat(largeFavoriteSelects).isEqualTo(1);
+        assertBookmarkFlags(large);
+    }
+
+    @Test
+    void cursorQueryCountDoesNotGrowWithPageSize() {
+        queryCounter.reset();
+        List<LetterListResponse> small = letterService.getReceivedLettersByCursor(receiver.getId(), null, 5).data();
+        int smallCount = queryCounter.count();
+        long smallFavoriteSelects = queryCounter.selectsFrom("letter_favorite");
+
+        queryCounter.reset();
+        List<LetterListResponse> large = letterService.getReceivedLettersByCursor(receiver.getId(), null, LETTER_COUNT).data();
+        int largeCount = queryCounter.count();
+        long largeFavoriteSelects = queryCounter.selectsFrom("letter_favorite");
+
+        assertThat(small).hasSize(5);
+        assertThat(large).hasSize(LETTER_COUNT);
+        assertThat(largeCount).isEqualTo(smallCount);
+        assertThat(smallFavoriteSelects).isEqualTo(1);
+        assertThat(largeFavoriteSelects).isEqualTo(1);
+        assertBookmarkFlags(large);
+    }
+
+    private void assertBookmarkFlags(List<LetterListResponse> letters) {
+        assertThat(letters).allSatisfy(letter ->
+                assertThat(letter.isBookmarked()).isEqualTo(bookmarkedIds.contains(letter.letterId())));
+    }
+
+    private static User newUser(String nickname) {
+        return User.builder()
+                .providerId("google-" + nickname)
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.project.deartime.app.notification.service;
+
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.app.notification.domain.NotificationType;
+import com.project.deartime.app.notification.dto.NotificationDraft;
+import com.project.deartime.app.notification.dto.NotificationResponse;
+import com.project.deartime.support.IntegrationTestSupport;
+import com.project.deartime.support.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽지 않은 알림 개수(notification_unread_count) 증감 검증
+ * - 알림 생성/읽음/전체 읽음/삭제 후 개수가 실제 읽지 않은 알림 수와 같아야 한다.
+ * - 개수 조회는 notification 을 COUNT 하지 않는다.
+ */
+class UnreadNotificationCounterTest extends IntegrationTestSupport {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    private User user;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(newUser("u-"));
+        other = userRepository.save(newUser("o-"));
+    }
+
+    @Test
+    void countFollowsCreateReadAndDelete() {
+        NotificationResponse first = notify(user);
+        notify(user);
+        notify(user);
+        assertCount(user, 3);
+
+        // 같은 알림을 다시 읽어도 한 번만 줄어듦
+        notificationService.markAsRead(first.getId(), user.getId());
+        notificationService.markAsRead(first.getId(), user.getId());
+        assertCount(user, 2);
+
+        notificationService.markAllAsRead(user.getId());
+        assertCount(user, 0);
+
+        notify(user);
+        notify(user);
+        notificationService.deleteAllNotifications(user.getId());
+        assertCount(user, 0);
+    }
+
+    @Test
+    void markAsReadByIdsDecrementsOnlyOwnUnreadNotifications() {
+        NotificationResponse mine = notify(user);
+        NotificationResponse others = notify(other);
+        notify(user);
+
+        int updated = notificationService.markAsReadByIds(List.of(mine.getId(), others.getId()), user.getId());
+
+        assertThat(updated).isEqualTo(1);
+        assertCount(user, 1);
+        assertCount(other, 1);
+    }
+
+    @Test
+    void bulkCreateIncrementsEachReceiver() {
+        notificationService.notifyCapsulesOpened(List.of(
+                new NotificationDraft(user.getId(), "sender", "capsule", 1L),
+                new NotificationDraft(other.getId(), "sender", "capsule", 2L),
+                new NotificationDraft(user.getId(), "sender", "capsule", 3L)));
+
+        assertCount(user, 2);
+        assertCount(other, 1);
+    }
+
+    @Test
+    void unreadCountDoesNotCountNotifications() {
+        notify(user);
+
+        queryCounter.reset();
+        long count = notificationService.getUnreadCount(user.getId());
+
+        assertThat(count).isEqualTo(1);
+        assertThat(queryCounter.executions()).singleElement()
+                .satisfies(execution -> assertThat(execution.sql().toLowerCase())
+                        .contains("from notification_unread_count")
+                        .doesNotContain("count("));
+    }
+
+    private NotificationResponse notify(User receiver) {
+        return notificationService.createAndSendNotification(
+                receiver, NotificationType.FRIEND_REQUEST, "sender", null, 1L);
+    }
+
+    private void assertCount(User receiver, long expected) {
+        Long actual = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification WHERE user_id = ? AND is_read = false", Long.class, receiver.getId());
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(notificationService.getUnreadCount(receiver.getId())).isEqualTo(expected);
+    }
+
+    private static User newUser(String prefix) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return User.builder()
+                .providerId("google-" + suffix)
+                .email(suffix + "@test.com")
+                .nickname(prefix + suffix)
+                .build();
+    }
+}
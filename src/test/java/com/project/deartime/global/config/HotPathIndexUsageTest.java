@@ -0,0 +1,135 @@
+package com.project.deartime.global.config;
+
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회가 잦은 경로의 쿼리가 Flyway 로 만든 인덱스를 실제로 사용하는지 EXPLAIN 으로 확인
+ * - 쿼리 모양은 각 리포지토리 쿼리(JPQL/네이티브)가 생성하는 SQL 과 같게 맞춘다.
+ * - 테스트 데이터가 적어 순차 스캔이 더 싸게 계산될 수 있으므로 enable_seqscan 을 끄고,
+ *   인덱스로 처리할 수 있는 쿼리인지(= 조건/정렬과 인덱스 컬럼이 맞는지)를 검증한다.
+ */
+class HotPathIndexUsageTest extends IntegrationTestSupport {
+
+    private static final int ROW_COUNT = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        userId = userRepository.save(User.builder()
+                .providerId("google-" + suffix)
+                .email(suffix + "@test.com")
+                .nickname("i-" + suffix)
+                .build()).getId();
+
+        jdbcTemplate.update(
+                "INSERT INTO notification (user_id, type, content, is_read, created_at) " +
+                "SELECT ?, 'LETTER_RECEIVED', 'content', g % 3 = 0, now() - g * interval '1 minute' " +
+                "FROM generate_series(1, ?) g",
+                userId, ROW_COUNT);
+        jdbcTemplate.update(
+                "INSERT INTO letters (sender_id, receiver_id, title, content, is_read, " +
+                "is_deleted_by_sender, is_deleted_by_receiver, created_at) " +
+                "SELECT ?, ?, 'title', 'content', false, false, false, now() - g * interval '1 minute' " +
+                "FROM generate_series(1, ?) g",
+                userId, userId, ROW_COUNT);
+
+        jdbcTemplate.execute("ANALYZE notification");
+        jdbcTemplate.execute("ANALYZE letters");
+        jdbcTemplate.execute("ANALYZE time_capsule");
+    }
+
+    @Test
+    void notificationCursorUsesUserCreatedIdIndex() {
+        // NotificationRepository.findByUserIdBefore
+        String plan = explain(
+                "SELECT * FROM notification n WHERE n.user_id = " + userId + " " +
+                "AND (n.created_at < now() OR (n.created_at = now() AND n.id < 9223372036854775807)) " +
+                "ORDER BY n.created_at DESC, n.id DESC LIMIT 21");
+
+        assertThat(plan).contains("idx_notification_user_created_id");
+        assertThat(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    void unreadCountUsesUnreadIndex() {
+        // NotificationRepository.countUnreadByUserId
+        String plan = explain(
+                "SELECT count(n.id) FROM notification n WHERE n.user_id = " + userId + " AND n.is_read = false");
+
+        assertThat(plan).containsAnyOf("idx_notification_user_unread", "idx_notification_user_read_created");
+    }
+
+    @Test
+    void unreadListUsesUserReadCreatedIndex() {
+        // NotificationRepository.findUnreadByUserId
+        String plan = explain(
+                "SELECT * FROM notification n WHERE n.user_id = " + userId + " AND n.is_read = false " +
+                "ORDER BY n.created_at DESC");
+
+        assertThat(plan).containsAnyOf("idx_notification_user_read_created", "idx_notification_user_unread");
+    }
+
+    @Test
+    void receivedLetterCursorUsesReceiverIndex() {
+        // LetterRepository.findReceivedLetterSummariesBefore (수신자/발신자 조인 포함)
+        String plan = explain(
+                "SELECT l.id, s.nickname, r.nickname, l.title, l.created_at FROM letters l " +
+                "JOIN users s ON s.id = l.sender_id JOIN users r ON r.id = l.receiver_id " +
+                "WHERE r.id = " + userId + " AND l.is_deleted_by_receiver = false " +
+                "AND (l.created_at < now() OR (l.created_at = now() AND l.id < 9223372036854775807)) " +
+                "ORDER BY l.created_at DESC, l.id DESC LIMIT 21");
+
+        assertThat(plan).contains("idx_letters_receiver_deleted_created");
+    }
+
+    @Test
+    void sentLetterListUsesSenderIndex() {
+        // LetterRepository.findSentLetterSummaries
+        String plan = explain(
+                "SELECT l.id, l.title, l.created_at FROM letters l " +
+                "WHERE l.sender_id = " + userId + " AND l.is_deleted_by_sender = false " +
+                "ORDER BY l.created_at DESC LIMIT 20");
+
+        assertThat(plan).contains("idx_letters_sender_deleted_created");
+    }
+
+    @Test
+    void capsuleClaimUsesPendingOpenIndex() {
+        // TimeCapsuleRepository 오픈 대상 캡슐 선점 (스케줄러)
+        String plan = explain(
+                "SELECT id FROM time_capsule WHERE open_at <= now() AND is_notified = false " +
+                "ORDER BY open_at LIMIT 100 FOR UPDATE SKIP LOCKED");
+
+        assertThat(plan).containsAnyOf("idx_time_capsule_pending_open", "idx_time_capsule_open_at_notified");
+    }
+
+    // SET LOCAL 이 같은 커넥션에 적용되도록 한 트랜잭션 안에서 실행
+    private String explain(String sql) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+        });
+    }
+}
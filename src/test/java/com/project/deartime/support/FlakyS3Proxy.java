@@ -0,0 +1,155 @@
+package com.project.deartime.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3 호환 서버(LocalStack) 앞에 두는 장애 주입 프록시
+ * - 활성화하면 같은 요청(메서드 + 경로 + 쿼리)의 첫 시도에는 503 SlowDown 을 돌려주고, 재시도부터 그대로 전달한다.
+ * - 클라이언트의 재시도 정책과 재시도 시 본문 재전송(스트림 되감기, 파트 재업로드)을 검증하는 용도
+ */
+public class FlakyS3Proxy implements AutoCloseable {
+
+    // HttpClient 가 직접 설정하는 헤더 (요청에서 복사하지 않음)
+    private static final Set<String> RESTRICTED_HEADERS = Set.of(
+            "host", "connection", "content-length", "expect", "upgrade", "transfer-encoding");
+
+    private static final byte[] SLOW_DOWN_BODY = (
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<Error><Code>SlowDown</Code><Message>Please reduce your request rate.</Message></Error>")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final URI upstream;
+    private final HttpServer server;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private final Set<String> failedRequests = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger injectedFailures = new AtomicInteger();
+    private volatile boolean failFirstAttempt;
+
+    public FlakyS3Proxy(URI upstream) {
+        this.upstream = upstream;
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    public String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 장애 주입 시작 (이전 기록 초기화)
+     */
+    public void failFirstAttempts() {
+        failedRequests.clear();
+        injectedFailures.set(0);
+        failFirstAttempt = true;
+    }
+
+    public void passThrough() {
+        failFirstAttempt = false;
+    }
+
+    /**
+     * 첫 시도 실패를 돌려준 요청 (메서드 + 경로 + 쿼리)
+     */
+    public Set<String> failedRequests() {
+        return Set.copyOf(failedRequests);
+    }
+
+    public int injectedFailures() {
+        return injectedFailures.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body;
+            try (InputStream requestBody = exchange.getRequestBody()) {
+                body = requestBody.readAllBytes();
+            }
+
+            String requestKey = exchange.getRequestMethod() + " " + exchange.getRequestURI();
+            if (failFirstAttempt && failedRequests.add(requestKey)) {
+                injectedFailures.incrementAndGet();
+                exchange.getResponseHeaders().set("Content-Type", "application/xml");
+                exchange.sendResponseHeaders(503, SLOW_DOWN_BODY.length);
+                try (OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(SLOW_DOWN_BODY);
+                }
+                return;
+            }
+
+            forward(exchange, body);
+        }
+    }
+
+    private void forward(HttpExchange exchange, byte[] body) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(upstream.resolve(exchange.getRequestURI().toString()))
+                .method(exchange.getRequestMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        exchange.getRequestHeaders().forEach((name, values) -> {
+            if (!RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+                values.forEach(value -> request.header(name, value));
+            }
+        });
+
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+
+        boolean head = "HEAD".equalsIgnoreCase(exchange.getRequestMethod());
+        for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+            String name = header.getKey().toLowerCase();
+            // HEAD 응답의 Content-Length 는 객체 크기이므로 유지 (본문 길이는 HttpServer 가 설정)
+            if (name.equals("transfer-encoding") || name.equals("connection") || name.startsWith(":")
+                    || (name.equals("content-length") && !head)) {
+                continue;
+            }
+            exchange.getResponseHeaders().put(header.getKey(), header.getValue());
+        }
+
+        byte[] responseBody = response.body();
+        if (head || responseBody.length == 0) {
+            exchange.sendResponseHeaders(response.statusCode(), -1);
+            return;
+        }
+        exchange.sendResponseHeaders(response.statusCode(), responseBody.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(responseBody);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
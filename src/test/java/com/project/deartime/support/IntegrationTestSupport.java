@@ -0,0 +1,49 @@
+package com.project.deartime.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * PostgreSQL 통합 테스트 공통 설정
+ * - 네이티브 쿼리(FOR UPDATE SKIP LOCKED, ON CONFLICT, 부분 인덱스 등)를 그대로 검증하기 위해 실제 PostgreSQL 을 사용한다.
+ * - Docker 없이 실행되도록 embedded PostgreSQL(zonky, PostgreSQL 16 바이너리)을 JVM 에서 띄운다.
+ * - 서버는 테스트 클래스 간에 공유하고(스프링 컨텍스트 캐시와 수명을 맞춤), JVM 종료 시 정리된다.
+ * - 테이블은 ddl-auto, 인덱스는 Flyway 마이그레이션으로 운영과 같은 순서로 만들어진다.
+ * - 쿼리 수 검증용 QueryCounter 를 함께 등록한다. (모든 테스트가 같은 컨텍스트를 재사용하도록 여기서 한 번만 import)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(QueryCounter.Config.class)
+public abstract class IntegrationTestSupport {
+
+    protected static final EmbeddedPostgres POSTGRES;
+
+    static {
+        try {
+            POSTGRES = EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("embedded PostgreSQL 기동 실패", e);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                POSTGRES.close();
+            } catch (IOException ignored) {
+                // JVM 종료 중이므로 무시
+            }
+        }));
+    }
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+}
@@ -0,0 +1,99 @@
+package com.project.deartime.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문장 기록 (datasource-proxy)
+ * - 스케줄러 등 다른 스레드의 쿼리는 섞이지 않도록 스레드별로 기록한다.
+ * - JDBC 배치는 한 번의 실행(왕복)으로 기록하고, 배치 여부와 크기를 함께 남긴다.
+ */
+public class QueryCounter implements QueryExecutionListener {
+
+    public record Execution(String sql, boolean batch, int batchSize) {
+
+        public boolean startsWith(String prefix) {
+            return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith(prefix.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private final ThreadLocal<List<Execution>> executions = ThreadLocal.withInitial(ArrayList::new);
+
+    public void reset() {
+        executions.get().clear();
+    }
+
+    public List<Execution> executions() {
+        return List.copyOf(executions.get());
+    }
+
+    /**
+     * reset 이후 실행된 문장 수 (배치는 한 번으로 계산)
+     */
+    public int count() {
+        return executions.get().size();
+    }
+
+    /**
+     * 지정한 테이블을 읽은(FROM 또는 JOIN) SELECT 수
+     */
+    public long selectsFrom(String table) {
+        String from = " from " + table.toLowerCase(Locale.ROOT) + " ";
+        String join = " join " + table.toLowerCase(Locale.ROOT) + " ";
+        return executions.get().stream()
+                .filter(execution -> execution.startsWith("select"))
+                .map(execution -> execution.sql().toLowerCase(Locale.ROOT) + " ")
+                .filter(sql -> sql.contains(from) || sql.contains(join))
+                .count();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        executions.get().add(new Execution(sql, execInfo.isBatch(), execInfo.getBatchSize()));
+    }
+
+    /**
+     * DataSource 를 기록용 프록시로 감싸는 설정 (IntegrationTestSupport 에서 import)
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class Config {
+
+        @Bean
+        public QueryCounter queryCounter() {
+            return new QueryCounter();
+        }
+
+        @Bean
+        public static BeanPostProcessor queryCountingDataSourcePostProcessor(ObjectProvider<QueryCounter> queryCounter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .name(beanName)
+                                .listener(queryCounter.getObject())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}